@@ -0,0 +1,251 @@
+package ar.edu.utn.frc.tup.lc.iii.cache;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Caché de lectura (read-through) en memoria para {@link Dummy}.
+ *
+ * - byId: guarda el Dummy por id. Es la única copia de los datos y la única que hay que invalidar
+ *   cuando un Dummy cambia.
+ * - idByDni / idByEmail: índices que solo guardan el id. Al leer se valida contra byId que el DNI
+ *   o email siga coincidiendo; si no coincide la entrada se descarta y se consulta la base.
+ *
+ * byId es una caché asíncrona: ante un fallo se registra un {@link CompletableFuture} vacío y la carga
+ * se hace en el hilo que llamó, fuera de cualquier lock. Quien pide la misma clave mientras tanto espera
+ * ese future (una sola consulta por clave). No se hace I/O dentro de {@code ConcurrentHashMap.compute}
+ * (bloque synchronized), así los hilos virtuales no quedan fijados a su carrier durante la consulta.
+ * Una invalidación durante la carga quita el future del mapa, por lo que el valor cargado no queda en
+ * la caché si el servicio invalida después de confirmar el cambio en la base.
+ *
+ * Los fallos de idByDni / idByEmail también se agrupan: con {@link SingleFlight}, los pedidos
+ * simultáneos del mismo DNI o email comparten una sola consulta. En ambos casos quien espera la carga
+ * de otro hilo lo hace como máximo {@code app.cache.dummy.coalescing-timeout} (504 al vencer) y los
+ * errores de la carga les llegan a todos, sin quedar guardados.
+ *
+ * Tamaño máximo y TTL se configuran con {@code app.cache.dummy.max-size} y {@code app.cache.dummy.ttl}.
+ * Como {@link MeterBinder}, Actuator publica las estadísticas de las tres cachés ({@code cache.gets},
+ * {@code cache.evictions}, {@code cache.size}, ...) con el tag {@code cache=dummy.byId|dummy.idByDni|dummy.idByEmail},
+ * y las de agrupamiento como {@code dummy.cache.coalescing.loads|shared|timeouts} con el tag {@code key=dni|email}
+ * (por id, que ya se agrupa en byId, solo {@code timeouts}).
+ */
+@Component
+public class DummyCache implements MeterBinder {
+
+    private final AsyncCache<Long, Dummy> byId;
+    private final Cache<Long, Long> idByDni;
+    private final Cache<String, Long> idByEmail;
+    private final SingleFlight<Long, Dummy> dniFlights;
+    private final SingleFlight<String, Dummy> emailFlights;
+    private final Duration coalescingTimeout;
+    private final LongAdder byIdTimeouts = new LongAdder();
+
+    public DummyCache(@Value("${app.cache.dummy.max-size:10000}") long maxSize,
+                      @Value("${app.cache.dummy.ttl:PT10M}") Duration ttl,
+                      @Value("${app.cache.dummy.coalescing-timeout:PT2S}") Duration coalescingTimeout) {
+        this.byId = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().buildAsync();
+        this.idByDni = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.idByEmail = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.dniFlights = new SingleFlight<>(coalescingTimeout);
+        this.emailFlights = new SingleFlight<>(coalescingTimeout);
+        this.coalescingTimeout = coalescingTimeout;
+    }
+
+    /**
+     * Devuelve el Dummy con ese id, cargándolo con {@code loader} si no está en caché.
+     * Si el loader devuelve null no se guarda nada y se devuelve null.
+     */
+    public Dummy getById(Long id, Function<Long, Dummy> loader) {
+        return copy(load(id, loader));
+    }
+
+    /**
+     * Resuelve el id en byId. Si la clave no estaba, este hilo ejecuta la carga y completa el future;
+     * si otra carga ya estaba en curso, se espera su resultado (como máximo {@code coalescingTimeout}).
+     * Los futures que terminan en null o con excepción Caffeine los quita solo, así no se cachean ni
+     * los inexistentes ni los errores.
+     */
+    private Dummy load(Long id, Function<Long, Dummy> loader) {
+        CompletableFuture<Dummy> created = new CompletableFuture<>();
+        CompletableFuture<Dummy> future = byId.get(id, (key, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(id));
+            } catch (RuntimeException | Error ex) {
+                created.completeExceptionally(ex);
+            }
+        }
+        return SingleFlight.await(future, coalescingTimeout, byIdTimeouts);
+    }
+
+    /**
+     * Devuelve el Dummy con ese DNI. Si el índice conoce el id se resuelve por {@link #getById};
+     * si no, se usa {@code loader} (consulta por DNI, una sola por DNI a la vez) y se recuerda el id obtenido.
+     */
+    public Dummy getByDni(Long dni, Function<Long, Dummy> byIdLoader, Function<Long, Dummy> loader) {
+        Dummy cached = fromIndex(idByDni, dni, byIdLoader, Dummy::getDni);
+        if (cached != null) {
+            return copy(cached);
+        }
+        return copy(dniFlights.execute(dni, key -> loadIndexed(idByDni, key, byIdLoader, Dummy::getDni, loader)));
+    }
+
+    /**
+     * Igual a {@link #getByDni} pero por email.
+     */
+    public Dummy getByEmail(String email, Function<Long, Dummy> byIdLoader, Function<String, Dummy> loader) {
+        Dummy cached = fromIndex(idByEmail, email, byIdLoader, Dummy::getEmail);
+        if (cached != null) {
+            return copy(cached);
+        }
+        return copy(emailFlights.execute(email, key -> loadIndexed(idByEmail, key, byIdLoader, Dummy::getEmail, loader)));
+    }
+
+    /**
+     * Resuelve {@code key} por el índice y byId. Devuelve null (y descarta la entrada) si el índice no
+     * la conoce o si el Dummy ya no tiene ese DNI / email.
+     */
+    private <K> Dummy fromIndex(Cache<K, Long> index, K key, Function<Long, Dummy> byIdLoader,
+                                Function<Dummy, K> keyOf) {
+        Long id = index.getIfPresent(key);
+        if (id == null) {
+            return null;
+        }
+        Dummy cached = load(id, byIdLoader);
+        if (cached != null && Objects.equals(keyOf.apply(cached), key)) {
+            return cached;
+        }
+        index.invalidate(key);
+        return null;
+    }
+
+    /**
+     * Carga agrupada de un fallo del índice. Vuelve a mirar el índice porque quien no lo encontró pudo
+     * llegar acá justo después de que otra carga de la misma clave lo llenara y terminara; el id obtenido
+     * se guarda antes de terminar, así quien llegue después ya no lanza otra consulta.
+     */
+    private <K> Dummy loadIndexed(Cache<K, Long> index, K key, Function<Long, Dummy> byIdLoader,
+                                  Function<Dummy, K> keyOf, Function<K, Dummy> loader) {
+        Dummy cached = fromIndex(index, key, byIdLoader, keyOf);
+        if (cached != null) {
+            return cached;
+        }
+        Dummy loaded = loader.apply(key);
+        if (loaded != null) {
+            index.put(key, loaded.getId());
+        }
+        return loaded;
+    }
+
+    /**
+     * Invalida el Dummy con ese id. Debe llamarse después de confirmar el cambio en la base.
+     */
+    public void evict(Long id) {
+        if (id != null) {
+            byId.synchronous().invalidate(id);
+        }
+    }
+
+    /**
+     * Invalida el Dummy y las entradas de índice de su DNI y email.
+     */
+    public void evict(Dummy dummy) {
+        evict(dummy.getId());
+        if (dummy.getDni() != null) {
+            dniFlights.forget(dummy.getDni());
+            idByDni.invalidate(dummy.getDni());
+        }
+        if (dummy.getEmail() != null) {
+            emailFlights.forget(dummy.getEmail());
+            idByEmail.invalidate(dummy.getEmail());
+        }
+    }
+
+    /** Vacía todas las cachés. */
+    public void clear() {
+        byId.synchronous().invalidateAll();
+        idByDni.invalidateAll();
+        idByEmail.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byId.synchronous(), "dummy.byId");
+        CaffeineCacheMetrics.monitor(registry, idByDni, "dummy.idByDni");
+        CaffeineCacheMetrics.monitor(registry, idByEmail, "dummy.idByEmail");
+        bindFlights(registry, dniFlights, "dni");
+        bindFlights(registry, emailFlights, "email");
+        FunctionCounter.builder("dummy.cache.coalescing.timeouts", byIdTimeouts, LongAdder::sum)
+                .tag("key", "id").description("Pedidos que dejaron de esperar la consulta de otro hilo").register(registry);
+    }
+
+    private static void bindFlights(MeterRegistry registry, SingleFlight<?, ?> flights, String key) {
+        FunctionCounter.builder("dummy.cache.coalescing.loads", flights, SingleFlight::loads)
+                .tag("key", key).description("Consultas ejecutadas por fallos del índice").register(registry);
+        FunctionCounter.builder("dummy.cache.coalescing.shared", flights, SingleFlight::shared)
+                .tag("key", key).description("Pedidos resueltos con la consulta de otro hilo").register(registry);
+        FunctionCounter.builder("dummy.cache.coalescing.timeouts", flights, SingleFlight::timeouts)
+                .tag("key", key).description("Pedidos que dejaron de esperar la consulta de otro hilo").register(registry);
+        Gauge.builder("dummy.cache.coalescing.in.flight", flights, SingleFlight::inFlight)
+                .tag("key", key).register(registry);
+    }
+
+    /**
+     * Contadores de aciertos, fallos y desalojos de cada caché, y de las cargas agrupadas por DNI y email.
+     */
+    public Map<String, Map<String, Long>> stats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        stats.put("byId", toMap(byId.synchronous()));
+        stats.put("idByDni", toMap(idByDni));
+        stats.put("idByEmail", toMap(idByEmail));
+        stats.put("dniFlights", toMap(dniFlights));
+        stats.put("emailFlights", toMap(emailFlights));
+        return stats;
+    }
+
+    private static Map<String, Long> toMap(SingleFlight<?, ?> flights) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put("loads", flights.loads());
+        map.put("shared", flights.shared());
+        map.put("timeouts", flights.timeouts());
+        map.put("inFlight", (long) flights.inFlight());
+        return map;
+    }
+
+    private static Map<String, Long> toMap(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put("hits", stats.hitCount());
+        map.put("misses", stats.missCount());
+        map.put("evictions", stats.evictionCount());
+        map.put("size", cache.estimatedSize());
+        return map;
+    }
+
+    /** Se devuelven copias para que quien llama no modifique el valor guardado. */
+    private static Dummy copy(Dummy dummy) {
+        if (dummy == null) {
+            return null;
+        }
+        return new Dummy(dummy.getId(), dummy.getDummy(), dummy.getDni(),
+                dummy.getEmail(), dummy.getTel(), dummy.getFecha_Nac(), dummy.getVersion());
+    }
+}
@@ -0,0 +1,281 @@
+package ar.edu.utn.frc.tup.lc.iii.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Filtros de Bloom de los DNI y emails existentes, para responder "no existe" sin ir a la base.
+ *
+ * - {@link #mightContainDni} / {@link #mightContainEmail}: false es definitivo (el valor no está en la
+ *   tabla); true significa "puede estar" y hay que consultar la base. Mientras el filtro no está
+ *   cargado (arranque) o está deshabilitado, siempre devuelven true.
+ * - Las altas y modificaciones se registran con {@link #adding} ANTES de escribir en la base y
+ *   mientras dura la escritura (o la transacción que la contiene, hasta su commit). Así nunca hay un
+ *   DNI confirmado en la base que el filtro no conozca; si la escritura falla solo queda un falso
+ *   positivo más.
+ * - Las bajas no se quitan (un filtro de Bloom no admite borrado): solo aumentan los falsos positivos
+ *   hasta la próxima reconstrucción.
+ * - {@link #rebuild} arma un filtro nuevo recorriendo la tabla sin cortar el servicio: mientras recorre,
+ *   las escrituras se registran en el filtro actual y en el nuevo. El lock de lectura que toman las
+ *   escrituras solo se usa para que el recorrido empiece después de que terminen las escrituras que
+ *   no llegaron a registrarse en el filtro nuevo.
+ *
+ * Se carga en segundo plano al iniciar la aplicación y se reconstruye solo cuando las altas superan la capacidad.
+ * Esas reconstrucciones corren en un hilo propio (no en el ForkJoinPool común, que comparten los
+ * CompletableFuture de toda la aplicación) y si fallan se registra el error: el filtro anterior sigue
+ * en uso y la próxima alta que pase la capacidad vuelve a programar la reconstrucción.
+ * Configuración: {@code app.filter.dummy.enabled}, {@code app.filter.dummy.expected-insertions}
+ * (capacidad mínima) y {@code app.filter.dummy.fpp} (tasa de falsos positivos buscada).
+ */
+@Component
+public class DummyExistenceFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(DummyExistenceFilter.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private final ReentrantReadWriteLock writes = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    /** Hilo de las reconstrucciones en segundo plano; una a la vez, igual las serializa rebuildLock */
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dummy-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Filtros en uso; null hasta la primera carga */
+    private volatile Filters current;
+    /** Filtros en construcción durante un rebuild; null el resto del tiempo */
+    private volatile Filters building;
+
+    public DummyExistenceFilter(@Value("${app.filter.dummy.enabled:true}") boolean enabled,
+                                @Value("${app.filter.dummy.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${app.filter.dummy.fpp:0.01}") double fpp) {
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+    }
+
+    private record Filters(BloomFilter dnis, BloomFilter emails, long capacity, long loadedRows, LongAdder insertions) {
+
+        void add(Long dni, String email) {
+            if (dni != null) {
+                dnis.put(BloomFilter.hash(dni));
+                insertions.increment();
+            }
+            if (email != null) {
+                emails.put(BloomFilter.hash(email));
+            }
+        }
+    }
+
+    /**
+     * Carga inicial en segundo plano: con tablas grandes recorrerlas demoraría el arranque, y hasta
+     * que termina el filtro responde "puede estar" (se consulta la base como sin filtro).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduleRebuild();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Programa {@link #rebuild} en el hilo de reconstrucción. Un fallo se registra y libera la marca
+     * de reconstrucción programada, para que se pueda volver a intentar.
+     */
+    private void scheduleRebuild() {
+        try {
+            CompletableFuture.runAsync(this::rebuild, rebuildExecutor).exceptionally(ex -> {
+                log.error("No se pudo reconstruir el filtro de existencia de Dummy", ex);
+                rebuildScheduled.set(false);
+                return null;
+            });
+        } catch (RejectedExecutionException ex) {
+            // la aplicación se está cerrando
+            rebuildScheduled.set(false);
+        }
+    }
+
+    /** false si el DNI seguro no existe en la tabla. */
+    public boolean mightContainDni(Long dni) {
+        Filters filters = current;
+        return filters == null || dni == null || filters.dnis().mightContain(BloomFilter.hash(dni));
+    }
+
+    /** false si el email seguro no existe en la tabla. */
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return filters == null || email == null || filters.emails().mightContain(BloomFilter.hash(email));
+    }
+
+    /**
+     * Registra el DNI y email (pueden ser null) y ejecuta la escritura que los persiste.
+     */
+    public <T> T adding(Long dni, String email, Supplier<T> write) {
+        return registering(() -> add(dni, email), write);
+    }
+
+    /**
+     * Igual a {@link #adding(Long, String, Supplier)} para los DNI y emails de una escritura masiva.
+     */
+    public <T> T adding(Collection<Long> dnis, Collection<String> emails, Supplier<T> write) {
+        return registering(() -> {
+            dnis.forEach(dni -> add(dni, null));
+            emails.forEach(email -> add(null, email));
+        }, write);
+    }
+
+    /**
+     * Registra las claves y ejecuta la escritura con el lock de lectura tomado. Si la escritura corre dentro
+     * de una transacción más amplia (por ejemplo un lote de la importación junto con su checkpoint), el lock
+     * se libera recién cuando esa transacción termina: hasta el commit las filas no se ven, y un
+     * {@link #rebuild} que recorriera la tabla en el medio publicaría un filtro sin esas claves.
+     */
+    private <T> T registering(Runnable register, Supplier<T> write) {
+        writes.readLock().lock();
+        boolean untilCompletion = TransactionSynchronizationManager.isSynchronizationActive();
+        if (untilCompletion) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    writes.readLock().unlock();
+                }
+            });
+        }
+        try {
+            register.run();
+            return write.get();
+        } finally {
+            if (!untilCompletion) {
+                writes.readLock().unlock();
+            }
+        }
+    }
+
+    private void add(Long dni, String email) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.add(dni, email);
+            if (filters.insertions().sum() > filters.capacity() && rebuildScheduled.compareAndSet(false, true)) {
+                // Pasada la capacidad la tasa de falsos positivos crece: se reconstruye con más espacio
+                scheduleRebuild();
+            }
+        }
+        Filters next = building;
+        if (next != null) {
+            next.add(dni, email);
+        }
+    }
+
+    /**
+     * Reconstruye los filtros desde la tabla, dimensionados para el doble de las filas actuales
+     * (nunca menos que {@code expected-insertions}). Si ya hay una reconstrucción en curso, espera a que termine.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            rebuildScheduled.set(true);
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dummy_entitie", Long.class);
+            long capacity = Math.max(expectedInsertions, 2 * (rows == null ? 0 : rows));
+            Filters next = new Filters(new BloomFilter(capacity, fpp), new BloomFilter(capacity, fpp),
+                    capacity, 0, new LongAdder());
+
+            // Desde acá las escrituras nuevas también se registran en el filtro nuevo; tomar el lock
+            // de escritura espera a que terminen las que empezaron antes y no lo hicieron.
+            writes.writeLock().lock();
+            try {
+                building = next;
+            } finally {
+                writes.writeLock().unlock();
+            }
+
+            long[] loaded = {0};
+            jdbcTemplate.query(con -> {
+                var statement = con.prepareStatement("SELECT dni, email FROM dummy_entitie");
+                statement.setFetchSize(1000);
+                return statement;
+            }, rs -> {
+                long dni = rs.getLong(1);
+                next.add(rs.wasNull() ? null : dni, rs.getString(2));
+                loaded[0]++;
+            });
+
+            Filters ready = new Filters(next.dnis(), next.emails(), capacity, loaded[0], next.insertions());
+            writes.writeLock().lock();
+            try {
+                current = ready;
+                building = null;
+            } finally {
+                writes.writeLock().unlock();
+            }
+        } finally {
+            if (building != null) {
+                // Falló a mitad de camino: se descarta el filtro a medio cargar y sigue el actual
+                writes.writeLock().lock();
+                try {
+                    building = null;
+                } finally {
+                    writes.writeLock().unlock();
+                }
+            }
+            rebuildScheduled.set(false);
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Estado de los filtros: capacidad, tamaño, filas cargadas y DNI registrados (carga + altas posteriores).
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        Filters filters = current;
+        stats.put("enabled", enabled);
+        stats.put("ready", filters != null);
+        stats.put("rebuilding", building != null);
+        if (filters != null) {
+            stats.put("capacity", filters.capacity());
+            stats.put("fpp", fpp);
+            stats.put("bitsPerFilter", filters.dnis().bitCount());
+            stats.put("hashFunctions", filters.dnis().hashFunctions());
+            stats.put("loadedRows", filters.loadedRows());
+            stats.put("insertions", filters.insertions().sum());
+        }
+        return stats;
+    }
+}
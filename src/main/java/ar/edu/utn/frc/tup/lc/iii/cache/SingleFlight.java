@@ -0,0 +1,116 @@
+package ar.edu.utn.frc.tup.lc.iii.cache;
+
+import ar.edu.utn.frc.tup.lc.iii.exceptions.DummyStatusException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Agrupa cargas concurrentes de la misma clave en una sola ("single flight").
+ *
+ * - El primer hilo que pide una clave es el líder: ejecuta la carga en su propio hilo, fuera de
+ *   cualquier lock, y publica el resultado en un {@link CompletableFuture}.
+ * - Los que piden la misma clave mientras tanto esperan ese future y reciben el mismo valor (o la
+ *   misma excepción) sin consultar la base.
+ * - Al terminar, bien o con error, la clave se quita: no se guardan resultados ni errores, el
+ *   siguiente pedido vuelve a cargar. Para guardar el valor está la caché.
+ * - Los que esperan lo hacen como máximo {@code timeout}; vencido, reciben 504 y la carga sigue
+ *   para el líder y los demás. No se lanza una carga nueva: si el líder tarda es que la base está
+ *   lenta, y sumarle consultas solo la empeora.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Devuelve el valor de {@code key}: lo carga con {@code loader} o, si ya hay una carga en curso
+     * para esa clave, espera su resultado. El valor puede ser null.
+     */
+    public V execute(K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            shared.increment();
+            return await(running, timeout, timeouts);
+        }
+        loads.increment();
+        try {
+            V value = loader.apply(key);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Olvida la carga en curso de {@code key}, si la hay: los pedidos siguientes hacen una nueva.
+     * Se usa al invalidar, para que nadie más se sume a una lectura anterior al cambio.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /** Cargas ejecutadas. */
+    public long loads() {
+        return loads.sum();
+    }
+
+    /** Pedidos que recibieron el resultado de otra carga. */
+    public long shared() {
+        return shared.sum();
+    }
+
+    /** Pedidos que dejaron de esperar por {@code timeout}. */
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    /** Cargas en curso. */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Espera el resultado de una carga hecha por otro hilo como máximo {@code timeout}. Las excepciones
+     * de la carga se relanzan tal cual; vencido el plazo se lanza 504.
+     */
+    static <V> V await(CompletableFuture<V> future, Duration timeout, LongAdder timeouts) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            timeouts.increment();
+            throw new DummyStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                    "La consulta en curso no terminó en " + timeout.toMillis() + " ms");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DummyStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Consulta interrumpida");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ar.edu.utn.frc.tup.lc.iii.config;
+
+import ar.edu.utn.frc.tup.lc.iii.services.DummyAsyncService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor de {@link DummyAsyncService}.
+ *
+ * - Hilos fijos, tantos como conexiones del pool ({@code app.async.dummy.threads}): más hilos solo
+ *   esperarían una conexión libre.
+ * - Cola acotada ({@code app.async.dummy.queue-capacity}): con la cola llena el executor rechaza la
+ *   tarea (AbortPolicy) y el servicio responde 503 enseguida en vez de acumular trabajo que va a vencer.
+ * - Micrometer publica su estado como {@code executor.*} con el tag {@code name=dummy.async}.
+ *
+ * Se publica envuelto en {@link DummyLookupPool} y no como {@code Executor}: un bean Executor haría
+ * que Spring Boot no cree su {@code applicationTaskExecutor}, que usa el controlador.
+ */
+@Configuration
+public class DummyAsyncConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public DummyLookupPool dummyLookupPool(@Value("${app.async.dummy.threads:10}") int threads,
+                                           @Value("${app.async.dummy.queue-capacity:1000}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "dummy-async-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "dummy.async", Tags.empty()).bindTo(meterRegistry);
+        return new DummyLookupPool(executor);
+    }
+}
@@ -0,0 +1,31 @@
+package ar.edu.utn.frc.tup.lc.iii.config;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Pool de hilos de las consultas asíncronas de Dummy (ver {@link DummyAsyncConfig}).
+ *
+ * No implementa {@code Executor} a propósito, para que Spring no lo tome como el executor de la aplicación.
+ */
+public final class DummyLookupPool {
+
+    private final ThreadPoolExecutor executor;
+
+    public DummyLookupPool(ThreadPoolExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Encola la tarea.
+     *
+     * @throws RejectedExecutionException si la cola está llena
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
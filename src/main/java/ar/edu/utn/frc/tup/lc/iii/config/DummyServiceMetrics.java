@@ -0,0 +1,65 @@
+package ar.edu.utn.frc.tup.lc.iii.config;
+
+import ar.edu.utn.frc.tup.lc.iii.exceptions.GlobalExceptionHandler;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada operación de {@link ar.edu.utn.frc.tup.lc.iii.services.DummyService} con el timer
+ * {@code dummy.service}, etiquetado por método, outcome (SUCCESS, CLIENT_ERROR, SERVER_ERROR) y el
+ * estado HTTP que {@link GlobalExceptionHandler} produce para la excepción lanzada (200 si no hubo error).
+ *
+ * Las rutas del controlador no necesitan aspecto: Actuator ya registra {@code http.server.requests}
+ * por uri, método, status y outcome.
+ *
+ * Los timers de éxito (el caso frecuente) se resuelven una vez por método y se guardan en un mapa,
+ * así el camino normal no arma tags ni busca el meter en el registro en cada llamada.
+ */
+@Aspect
+@Component
+public class DummyServiceMetrics {
+
+    private static final String OK = "200";
+
+    private final Meter.MeterProvider<Timer> timers;
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public DummyServiceMetrics(MeterRegistry registry) {
+        this.timers = Timer.builder("dummy.service")
+                .description("Duración de las operaciones de DummyService")
+                .withRegistry(registry);
+    }
+
+    @Around("execution(* ar.edu.utn.frc.tup.lc.iii.services.DummyService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(method, this::successTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            int status = GlobalExceptionHandler.statusOf(ex).value();
+            timers.withTags("method", method,
+                            "outcome", Outcome.forStatus(status).name(),
+                            "status", String.valueOf(status))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer successTimer(String method) {
+        return timers.withTags("method", method, "outcome", Outcome.SUCCESS.name(), "status", OK);
+    }
+}
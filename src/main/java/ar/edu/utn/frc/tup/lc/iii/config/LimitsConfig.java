@@ -0,0 +1,22 @@
+package ar.edu.utn.frc.tup.lc.iii.config;
+
+import ar.edu.utn.frc.tup.lc.iii.limits.DummyLimitsInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registra {@link DummyLimitsInterceptor} sobre los endpoints de Dummy.
+ */
+@Configuration
+public class LimitsConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private DummyLimitsInterceptor dummyLimitsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dummyLimitsInterceptor).addPathPatterns("/dummy/**");
+    }
+}
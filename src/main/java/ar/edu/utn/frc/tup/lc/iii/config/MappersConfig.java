@@ -1,5 +1,6 @@
 package ar.edu.utn.frc.tup.lc.iii.config;
 
+import ar.edu.utn.frc.tup.lc.iii.mappers.DummyMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.modelmapper.Conditions;
@@ -13,6 +14,9 @@ import org.springframework.context.annotation.Configuration;
  * - ModelMapper: facilita convertir entre entidades, modelos y DTOs.
  * - mergerMapper: igual a ModelMapper, pero ignora propiedades nulas al mapear (útil para updates parciales).
  * - ObjectMapper: registra el módulo de fechas de Java 8 para serializar/deserializar correctamente.
+ *
+ * Nota: las conversiones de Dummy en controlador y servicio usan {@link DummyMapper}, que copia
+ * campo a campo sin reflexión. Los beans de ModelMapper quedan para mapeos genéricos o poco frecuentes.
  */
 @Configuration
 public class MappersConfig {
@@ -0,0 +1,55 @@
+package ar.edu.utn.frc.tup.lc.iii.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Representaciones binarias de las respuestas y cuerpos JSON, elegidas por el cliente con {@code Accept}
+ * (y {@code Content-Type} para los cuerpos):
+ * - {@code application/cbor}
+ * - {@code application/x-jackson-smile}
+ *
+ * Ambas usan una copia del ObjectMapper de {@link MappersConfig} con otra fábrica, así serializan los
+ * mismos campos y fechas que el JSON. Spring MVC ya registra sus propios conversores CBOR y Smile
+ * (con un ObjectMapper por defecto) cuando las librerías están en el classpath: se reemplazan en su
+ * lugar, que queda después del de JSON, así sin {@code Accept} o con {@code *}{@code /*} la respuesta
+ * sigue siendo JSON.
+ */
+@Configuration
+public class MessageConvertersConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replace(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        replace(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+    }
+
+    /**
+     * Pone {@code converter} en el lugar del primer conversor de tipo {@code type} (y quita los demás);
+     * si no hay ninguno lo agrega al final.
+     */
+    private static void replace(List<HttpMessageConverter<?>> converters, Class<?> type, HttpMessageConverter<?> converter) {
+        int index = -1;
+        for (int i = converters.size() - 1; i >= 0; i--) {
+            if (type.isInstance(converters.get(i))) {
+                converters.remove(i);
+                index = i;
+            }
+        }
+        converters.add(index < 0 ? converters.size() : index, converter);
+    }
+}
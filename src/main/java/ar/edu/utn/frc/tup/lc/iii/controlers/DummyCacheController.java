@@ -0,0 +1,53 @@
+package ar.edu.utn.frc.tup.lc.iii.controlers;
+
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyCache;
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyExistenceFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Expone el estado de {@link DummyCache} (aciertos, fallos, desalojos y tamaño) y de
+ * {@link DummyExistenceFilter}, y permite reconstruir el filtro.
+ */
+@RestController
+@RequestMapping("/dummy/cache")
+public class DummyCacheController {
+
+    @Autowired
+    private DummyCache dummyCache;
+
+    @Autowired
+    private DummyExistenceFilter existenceFilter;
+
+    /**
+     * Devuelve los contadores de cada caché de Dummy.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Long>>> getStats(){
+        return ResponseEntity.ok(dummyCache.stats());
+    }
+
+    /**
+     * Devuelve el estado de los filtros de existencia de DNI y email.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<Map<String, Object>> getFilterStats(){
+        return ResponseEntity.ok(existenceFilter.stats());
+    }
+
+    /**
+     * Reconstruye los filtros de existencia desde la tabla (p.ej. después de muchas bajas o de una
+     * carga hecha por fuera de la API). El servicio sigue atendiendo mientras tanto.
+     */
+    @PostMapping("/filter/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildFilter(){
+        existenceFilter.rebuild();
+        return ResponseEntity.ok(existenceFilter.stats());
+    }
+}
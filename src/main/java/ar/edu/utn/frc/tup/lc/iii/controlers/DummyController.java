@@ -1,23 +1,58 @@
 package ar.edu.utn.frc.tup.lc.iii.controlers;
 
 
+import ar.edu.utn.frc.tup.lc.iii.dtos.BulkItemResultDto;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyChangeDto;
 import ar.edu.utn.frc.tup.lc.iii.dtos.DummyDto;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyImportReportDto;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyLookupRequestDto;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyLookupResultDto;
+import ar.edu.utn.frc.tup.lc.iii.exceptions.DummyStatusException;
+import ar.edu.utn.frc.tup.lc.iii.mappers.DummyMapper;
+import ar.edu.utn.frc.tup.lc.iii.models.BulkItemResult;
 import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChangePage;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyExportFormat;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyFilter;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookup;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyAsyncService;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyImportService;
 import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controlador REST para gestionar recursos Dummy.
  *
  * Expone endpoints CRUD básicos y algunas consultas simples.
- * Utiliza {@link ModelMapper} para convertir entre el modelo de dominio {@link Dummy} y el DTO {@link DummyDto}.
+ * Utiliza {@link DummyMapper} para convertir entre el modelo de dominio {@link Dummy} y el DTO {@link DummyDto}.
  */
 @RestController
 @RequestMapping("/dummy")
@@ -27,53 +62,220 @@ public class DummyController {
     @Autowired
     private DummyService dummyService;
 
+    /** Lecturas asincrónicas: liberan el hilo del servidor mientras se consulta */
+    @Autowired
+    private DummyAsyncService dummyAsyncService;
+
+    /** Importación masiva desde archivos */
+    @Autowired
+    private DummyImportService dummyImportService;
+
     /** Mapeador de objetos (modelo <-> DTO) */
     @Autowired
-    private ModelMapper modelMapper;
+    private DummyMapper dummyMapper;
+
+    /** Tamaño máximo de página aceptado en los listados paginados */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /** Cantidad máxima de valores (ids + DNIs + emails) por búsqueda masiva */
+    private static final int MAX_LOOKUP_KEYS = 10_000;
+
+    /** Cantidad de líneas NDJSON que se envían juntas al servicio */
+    private static final int BULK_READ_CHUNK = 10_000;
+
+    /** Buffer del compresor/descompresor gzip de la exportación e importación */
+    private static final int EXPORT_GZIP_BUFFER = 64 * 1024;
+
+    /** Espera máxima aceptada en el long-poll de {@code /dummy/changes}, en segundos */
+    private static final int MAX_CHANGES_WAIT = 30;
+
+    /** Serializador JSON usado en el modo streaming */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Ejecutor de Spring Boot donde se arma la respuesta del long-poll al despertar */
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
 
     /**
-     * Obtiene todos los dummys.
+     * Obtiene los dummys.
+     *
+     * - Con {@code after}: paginación por cursor; devuelve hasta {@code size} registros con id mayor a
+     *   {@code after} y el header {@code X-Next-Cursor} con el último id devuelto.
+     * - Con {@code page}: paginación por número de página ordenada por id.
+     * - Sin parámetros: devuelve la lista completa (comportamiento original). Para tablas grandes
+     *   usar la paginación, {@code /dummy/dummy/stream} o la exportación {@code /dummy/export}.
      *
      * @return lista de DummyDto en HTTP 200
      */
     @GetMapping("/dummy")
-    public ResponseEntity <List<DummyDto>> getDummy(){
-        List<DummyDto> dummyDto = new ArrayList<>();
-        List<Dummy> dummyModels = dummyService.getDummyList();
+    public ResponseEntity <List<DummyDto>> getDummy(@RequestParam(required = false) Long after,
+                                                    @RequestParam(required = false) Integer page,
+                                                    @RequestParam(defaultValue = "100") int size){
+        validatePage(page == null ? 0 : page, size);
+        List<Dummy> dummyModels;
+        if (after != null) {
+            dummyModels = dummyService.getDummyPageAfter(after, size);
+        } else if (page != null) {
+            dummyModels = dummyService.getDummyPage(page, size);
+        } else {
+            dummyModels = dummyService.getDummyList();
+        }
 
         // Convertimos cada modelo a DTO para no exponer internals del dominio
-        for (Dummy dummyModel : dummyModels) {
-            dummyDto.add(modelMapper.map(dummyModel, DummyDto.class));
+        List<DummyDto> dummyDto = dummyMapper.toDtos(dummyModels);
+        if (after != null && !dummyDto.isEmpty()) {
+            return ResponseEntity.ok()
+                    .header("X-Next-Cursor", String.valueOf(dummyDto.get(dummyDto.size() - 1).getId()))
+                    .body(dummyDto);
         }
         return ResponseEntity.ok(dummyDto);
     }
 
+    /**
+     * Obtiene todos los dummys como un arreglo JSON escrito a medida que se leen de la base.
+     * La memoria usada es constante sin importar el tamaño de la tabla.
+     */
+    @GetMapping(value = "/dummy/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getDummyStream(){
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                dummyService.streamDummyList(dummy -> {
+                    try {
+                        generator.writeObject(dummyMapper.toDto(dummy));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Exporta todos los dummys en NDJSON ({@code format=ndjson}, por defecto) o CSV ({@code format=csv}),
+     * opcionalmente comprimidos con gzip ({@code gzip=true}). Las filas se leen con un cursor JDBC y se
+     * escriben a medida que llegan: la memoria usada no depende del tamaño de la tabla.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDummies(@RequestParam(defaultValue = "ndjson") String format,
+                                                               @RequestParam(defaultValue = "false") boolean gzip){
+        DummyExportFormat exportFormat = parseExportFormat(format);
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, EXPORT_GZIP_BUFFER) : out;
+            dummyService.exportDummies(exportFormat, target);
+        };
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : exportFormat == DummyExportFormat.CSV ? MediaType.parseMediaType("text/csv")
+                : MediaType.APPLICATION_NDJSON;
+        String filename = "dummies." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private static DummyExportFormat parseExportFormat(String format) {
+        try {
+            return DummyExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new DummyStatusException(HttpStatus.BAD_REQUEST, "Formato de exportación desconocido: " + format
+                    + " (usar ndjson o csv)");
+        }
+    }
+
+    /**
+     * Feed de cambios (altas, modificaciones y bajas confirmadas) con seq mayor a {@code after}, en orden.
+     * El header {@code X-Next-Cursor} trae el {@code after} de la próxima consulta.
+     *
+     * Con {@code wait} (segundos, hasta 30) y sin cambios nuevos, la respuesta se demora hasta que se
+     * confirme un cambio o se cumpla la espera (long-poll). Mientras espera no ocupa un hilo del servidor.
+     */
+    @GetMapping("/changes")
+    public CompletableFuture<ResponseEntity<List<DummyChangeDto>>> getChanges(@RequestParam(defaultValue = "0") long after,
+                                                                             @RequestParam(defaultValue = "100") int limit,
+                                                                             @RequestParam(defaultValue = "0") int wait){
+        validatePage(0, limit);
+        if (after < 0) {
+            throw new DummyStatusException(HttpStatus.BAD_REQUEST, "El cursor no puede ser negativo");
+        }
+        if (wait < 0 || wait > MAX_CHANGES_WAIT) {
+            throw new DummyStatusException(HttpStatus.BAD_REQUEST, "La espera debe estar entre 0 y " + MAX_CHANGES_WAIT + " segundos");
+        }
+        if (wait == 0) {
+            return CompletableFuture.completedFuture(changesResponse(after, limit));
+        }
+        // La espera se completa en el hilo que confirma el cambio (o en el del timeout): la consulta
+        // se hace en el ejecutor para no demorarlo
+        return dummyService.awaitChanges(after, Duration.ofSeconds(wait))
+                .thenApplyAsync(ignored -> changesResponse(after, limit), taskExecutor);
+    }
+
+    private ResponseEntity<List<DummyChangeDto>> changesResponse(long after, int limit) {
+        DummyChangePage page = dummyService.getChanges(after, limit);
+        return ResponseEntity.ok()
+                .header("X-Next-Cursor", String.valueOf(page.getNextCursor()))
+                .body(dummyMapper.toChangeDtos(page.getChanges()));
+    }
+
     /**
      * Busca un Dummy a partir de los campos provistos en el cuerpo.
      * Nota: usar cuerpo en GET no es una práctica estándar; podría migrarse a POST si se desea.
      */
     @GetMapping("")
     public ResponseEntity<DummyDto> getDummyAll(@RequestBody DummyDto dummyDto){
-        Dummy dummy = dummyService.getByAllDummy(modelMapper.map(dummyDto, Dummy.class));
-        DummyDto dummyResponse = modelMapper.map(dummy, DummyDto.class);
+        Dummy dummy = dummyService.getByAllDummy(dummyMapper.toModel(dummyDto));
+        DummyDto dummyResponse = dummyMapper.toDto(dummy);
         return ResponseEntity.ok(dummyResponse);
     }
 
     /**
      * Obtiene un Dummy por su id.
+     * Responde con ETag; si el cliente envía If-None-Match con el mismo ETag se responde 304 sin cuerpo.
+     * La consulta es asincrónica ({@link DummyAsyncService}): el hilo del servidor se libera mientras tanto.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<DummyDto> getDummyList(@PathVariable Long id){
-        DummyDto dummy = modelMapper.map(dummyService.getDummy(id), DummyDto.class);
-        return ResponseEntity.ok(dummy);
+    public CompletableFuture<ResponseEntity<DummyDto>> getDummyList(@PathVariable Long id,
+                                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        return dummyAsyncService.getDummy(id).thenApply(dummy -> conditionalOk(dummy, ifNoneMatch));
     }
 
     /**
-     * Obtiene un Dummy por su DNI.
+     * Búsqueda masiva: resuelve en una llamada hasta 10.000 ids, DNIs y/o emails, con una consulta IN
+     * por tipo de clave. Responde un mapa por tipo, con el Dummy o null para los valores que no existen.
+     */
+    @PostMapping("/lookup")
+    public CompletableFuture<ResponseEntity<DummyLookupResultDto>> lookupDummies(@RequestBody DummyLookupRequestDto request){
+        int keys = sizeOf(request.getIds()) + sizeOf(request.getDnis()) + sizeOf(request.getEmails());
+        if (keys > MAX_LOOKUP_KEYS) {
+            throw new DummyStatusException(HttpStatus.BAD_REQUEST, "La búsqueda admite hasta " + MAX_LOOKUP_KEYS + " valores");
+        }
+        DummyLookup lookup = new DummyLookup(request.getIds(), request.getDnis(), request.getEmails());
+        return dummyAsyncService.lookupDummies(lookup).thenApply(result -> ResponseEntity.ok(dummyMapper.toDto(result)));
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+
+    /**
+     * Obtiene un Dummy por su DNI (con ETag / If-None-Match igual que por id).
      */
     @GetMapping("/dni/{DNI}")
-    public ResponseEntity<DummyDto> getDummyByDNI(@PathVariable Long DNI){
-        DummyDto dummy = modelMapper.map(dummyService.getDummyByDNI(DNI), DummyDto.class);
+    public CompletableFuture<ResponseEntity<DummyDto>> getDummyByDNI(@PathVariable Long DNI,
+                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        return dummyAsyncService.getDummyByDNI(DNI).thenApply(dummy -> conditionalOk(dummy, ifNoneMatch));
+    }
+
+    /**
+     * Obtiene un Dummy por su email.
+     */
+    @GetMapping("/email/{email}")
+    public ResponseEntity<DummyDto> getDummyByEmail(@PathVariable String email){
+        DummyDto dummy = dummyMapper.toDto(dummyService.getDummyByEmail(email));
         return ResponseEntity.ok(dummy);
     }
 
@@ -82,10 +284,26 @@ public class DummyController {
      * Nota: este endpoint usa GET con body, considerar POST para filtros complejos.
      */
     @GetMapping("/list")
-    public ResponseEntity<DummyDto> getDummyFiltered(@RequestBody DummyDto dummyDto){
-        Dummy dummy = dummyService.getByAllDummy(modelMapper.map(dummyDto, Dummy.class));
-        DummyDto dummyResponse = modelMapper.map(dummy, DummyDto.class);
-        return ResponseEntity.ok(dummyResponse);
+    public ResponseEntity<List<DummyDto>> getDummyFiltered(@RequestBody DummyDto dummyDto){
+        List<Dummy> dummys = dummyService.getDummyFiltered(dummyMapper.toModel(dummyDto));
+        return ResponseEntity.ok(dummyMapper.toDtos(dummys));
+    }
+
+    /**
+     * Busca dummys por dummy, dni, email, tel y rango de fecha_Nac (parámetros de query, todos opcionales).
+     * Devuelve la página pedida ordenada por id y el total de coincidencias en {@code X-Total-Count}.
+     *
+     * Ejemplo: /dummy/search?fechaNacDesde=1990-01-01&fechaNacHasta=1999-12-31&page=0&size=50
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<DummyDto>> searchDummies(@ModelAttribute DummyFilter filter,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "100") int size){
+        validatePage(page, size);
+        Page<Dummy> result = dummyService.searchDummies(filter, page, size);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.getTotalElements()))
+                .body(dummyMapper.toDtos(result.getContent()));
     }
 
     /**
@@ -93,8 +311,8 @@ public class DummyController {
      */
     @PostMapping("")
     public ResponseEntity<DummyDto> createDummy(@RequestBody DummyDto dummyDto){
-        Dummy dummy = modelMapper.map(dummyDto, Dummy.class);
-        DummyDto saved = modelMapper.map( dummyService.createDummy(dummy), DummyDto.class);
+        Dummy dummy = dummyMapper.toModel(dummyDto);
+        DummyDto saved = dummyMapper.toDto(dummyService.createDummy(dummy));
         return ResponseEntity.ok(saved);
 
     }
@@ -103,20 +321,231 @@ public class DummyController {
      * Actualiza un Dummy existente (reemplazo completo de campos).
      */
     @PutMapping("")
-    public ResponseEntity<DummyDto> updateDummy(@RequestBody DummyDto dummyDto){
-        Dummy dummy = modelMapper.map(dummyDto, Dummy.class);
-        Dummy tDummy = dummyService.updateDummy(dummy);
-        DummyDto dummyDto1 = modelMapper.map(tDummy, DummyDto.class);
-        return ResponseEntity.ok(dummyDto1);
+    public ResponseEntity<DummyDto> updateDummy(@RequestBody DummyDto dummyDto,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        Dummy dummy = dummyMapper.toModel(dummyDto);
+        applyIfMatch(dummy, dummy.getId(), ifMatch);
+        // Con If-Match (también "*") el PUT es condicional: si el Dummy no existe es 412, no un alta
+        Dummy tDummy = dummyService.updateDummy(dummy, ifMatch != null && !ifMatch.isBlank());
+        DummyDto dummyDto1 = dummyMapper.toDto(tDummy);
+        return ResponseEntity.ok().eTag(etagOf(tDummy)).body(dummyDto1);
     }
 
     /**
-     * Elimina un Dummy por id.
+     * Actualiza parcialmente un Dummy: solo se modifican los campos presentes (no nulos) en el cuerpo.
+     * Acepta If-Match igual que PUT.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<DummyDto> patchDummy(@PathVariable Long id, @RequestBody DummyDto dummyDto,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        Dummy patch = dummyMapper.toModel(dummyDto);
+        applyIfMatch(patch, id, ifMatch);
+        Dummy patched = dummyService.patchDummy(id, patch);
+        return ResponseEntity.ok().eTag(etagOf(patched)).body(dummyMapper.toDto(patched));
+    }
+
+    /**
+     * Elimina un Dummy por id. Con If-Match solo elimina si el ETag coincide (412 si no).
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deleteDummy(@PathVariable Long id){
-        dummyService.deleteDummy(id);
+    public ResponseEntity<String> deleteDummy(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        dummyService.deleteDummy(id, expectedVersion(id, ifMatch));
         return ResponseEntity.ok("El dummy id " + id + " a sido eliminado con exito");
     }
 
+    /**
+     * Alta masiva a partir de un arreglo JSON de dummys. Devuelve un resultado por elemento
+     * (mismo orden que la entrada) con el id creado o el motivo del rechazo.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResultDto>> createDummies(@RequestBody List<DummyDto> dummyDtos){
+        List<Dummy> dummies = new ArrayList<>(dummyDtos.size());
+        for (DummyDto dummyDto : dummyDtos) {
+            dummies.add(dummyMapper.toModel(dummyDto));
+        }
+        return ResponseEntity.ok(dummyMapper.toBulkDtos(dummyService.createDummies(dummies)));
+    }
+
+    /**
+     * Alta masiva a partir de NDJSON (un dummy JSON por línea). El cuerpo se lee como stream y se
+     * envía al servicio en lotes, sin cargar todo el archivo en memoria.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkItemResultDto>> createDummiesNdjson(InputStream body) throws IOException {
+        List<BulkItemResult> results = new ArrayList<>();
+        List<Dummy> chunk = new ArrayList<>(BULK_READ_CHUNK);
+        try (MappingIterator<DummyDto> lines = objectMapper.readerFor(DummyDto.class).readValues(body)) {
+            while (lines.hasNextValue()) {
+                chunk.add(dummyMapper.toModel(lines.nextValue()));
+                if (chunk.size() == BULK_READ_CHUNK) {
+                    addBulkResults(results, dummyService.createDummies(chunk));
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            addBulkResults(results, dummyService.createDummies(chunk));
+        }
+        return ResponseEntity.ok(dummyMapper.toBulkDtos(results));
+    }
+
+    /**
+     * Importación masiva desde un archivo NDJSON o CSV (Content-Type application/x-ndjson o text/csv,
+     * los mismos formatos de {@code /dummy/export}), opcionalmente con {@code Content-Encoding: gzip}.
+     * El archivo se procesa como stream en lotes y con checkpoints: si la importación falla, reenviar
+     * el mismo archivo con el mismo {@code id} la continúa desde el último lote confirmado.
+     * Responde con los totales, la velocidad (registros/s) y el detalle de los registros rechazados.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<DummyImportReportDto> importDummies(@RequestParam String id,
+                                                              @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                              @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+                                                              InputStream body) throws IOException {
+        DummyExportFormat format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? DummyExportFormat.CSV : DummyExportFormat.NDJSON;
+        InputStream source = "gzip".equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body, EXPORT_GZIP_BUFFER) : body;
+        return ResponseEntity.ok(dummyMapper.toDto(dummyImportService.importDummies(id, format, source)));
+    }
+
+    /**
+     * Modificación masiva (reemplazo completo) a partir de un arreglo JSON de dummys con id.
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDto>> updateDummies(@RequestBody List<DummyDto> dummyDtos){
+        List<Dummy> dummies = new ArrayList<>(dummyDtos.size());
+        for (DummyDto dummyDto : dummyDtos) {
+            dummies.add(dummyMapper.toModel(dummyDto));
+        }
+        return ResponseEntity.ok(dummyMapper.toBulkDtos(dummyService.updateDummies(dummies)));
+    }
+
+    /**
+     * Baja masiva a partir de un arreglo JSON de ids.
+     */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDto>> deleteDummies(@RequestBody List<Long> ids){
+        return ResponseEntity.ok(dummyMapper.toBulkDtos(dummyService.deleteDummies(ids)));
+    }
+
+    /**
+     * Agrega los resultados de un lote corrigiendo el índice para que sea relativo a toda la entrada.
+     */
+    private void addBulkResults(List<BulkItemResult> results, List<BulkItemResult> chunkResults) {
+        int offset = results.size();
+        for (BulkItemResult result : chunkResults) {
+            result.setIndex(result.getIndex() + offset);
+            results.add(result);
+        }
+    }
+
+    /**
+     * Valida número y tamaño de página; responde 400 si están fuera de rango.
+     */
+    private void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new DummyStatusException(HttpStatus.BAD_REQUEST, "El número de página no puede ser negativo");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new DummyStatusException(HttpStatus.BAD_REQUEST, "El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * ETag fuerte de un Dummy: incluye id y versión, así dos registros distintos nunca comparten ETag
+     * (importante en /dni/{DNI}, donde el mismo DNI puede pasar a otro registro).
+     */
+    private static String etagOf(Dummy dummy) {
+        return "\"" + dummy.getId() + "-" + dummy.getVersion() + "\"";
+    }
+
+    /**
+     * Devuelve 304 si el If-None-Match del request coincide con el ETag actual, o 200 con el DTO y el ETag.
+     * Recibe el header ya leído (y no el request) porque corre en el hilo que completa la consulta asincrónica.
+     */
+    private ResponseEntity<DummyDto> conditionalOk(Dummy dummy, String ifNoneMatch) {
+        String etag = etagOf(dummy);
+        if (ifNoneMatch != null && matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(dummyMapper.toDto(dummy));
+    }
+
+    /** Comparación débil de If-None-Match: lista separada por comas, "*" o ETags con o sin prefijo W/. */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Si vino If-Match, usa su versión como versión esperada del modelo (tiene prioridad sobre el cuerpo).
+     */
+    private void applyIfMatch(Dummy dummy, Long id, String ifMatch) {
+        Long expected = expectedVersion(id, ifMatch);
+        if (expected != null) {
+            dummy.setVersion(expected);
+        }
+    }
+
+    /**
+     * Interpreta un If-Match ({@code "id-version"} o una lista separada por comas) y devuelve la versión
+     * esperada. Sin header o con {@code *} devuelve null (sin verificación). If-Match usa comparación
+     * fuerte (RFC 9110): un ETag débil ({@code W/}) nunca coincide. Si ninguna entrada corresponde al
+     * dummy responde 412. Si la lista trae varias versiones del dummy, se devuelve la actual cuando está
+     * entre ellas (el servicio la vuelve a verificar al escribir).
+     */
+    private Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        boolean weak = false;
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (value.equals("*")) {
+                return null;
+            }
+            if (value.startsWith("W/")) {
+                weak = true;
+            } else {
+                Long version = versionOf(id, value);
+                if (version != null) {
+                    versions.add(version);
+                }
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new DummyStatusException(HttpStatus.PRECONDITION_FAILED, weak
+                    ? "If-Match requiere un ETag fuerte (sin W/)"
+                    : "El ETag de If-Match no corresponde al dummy id " + id);
+        }
+        if (versions.size() == 1) {
+            return versions.iterator().next();
+        }
+        Long current = dummyService.getDummy(id).getVersion();
+        return versions.contains(current) ? current : versions.iterator().next();
+    }
+
+    /** Versión de un ETag fuerte {@code "id-version"} si corresponde al dummy {@code id}; null si no. */
+    private static Long versionOf(Long id, String etag) {
+        String value = etag.replace("\"", "");
+        int dash = value.lastIndexOf('-');
+        if (id == null || dash <= 0) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.substring(0, dash)) == id ? Long.parseLong(value.substring(dash + 1)) : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
 }
@@ -0,0 +1,28 @@
+package ar.edu.utn.frc.tup.lc.iii.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de cada elemento de una operación masiva sobre Dummy.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResultDto {
+
+    /** Posición del elemento en la entrada */
+    private int index;
+
+    /** Id del Dummy creado, actualizado o eliminado */
+    private Long id;
+
+    /** Código HTTP del resultado del elemento */
+    private int status;
+
+    /** Motivo del rechazo, solo presente si falló */
+    private String message;
+}
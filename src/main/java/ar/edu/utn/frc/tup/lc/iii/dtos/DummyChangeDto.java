@@ -0,0 +1,27 @@
+package ar.edu.utn.frc.tup.lc.iii.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de un cambio del feed {@code GET /dummy/changes}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyChangeDto {
+
+    /** Posición en el feed; usar el último recibido como {@code after} en la próxima consulta */
+    private long seq;
+
+    /** CREATE, UPDATE o DELETE */
+    private String operation;
+
+    /** Estado del Dummy después del cambio (antes, en las bajas) */
+    private DummyDto dummy;
+
+    private LocalDateTime changedAt;
+}
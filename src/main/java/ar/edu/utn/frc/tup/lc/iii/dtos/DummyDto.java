@@ -35,4 +35,7 @@ public class DummyDto {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDate fecha_Nac;
+
+    /** Versión del registro (la misma que viaja en el ETag) */
+    private Long version;
 }
@@ -0,0 +1,43 @@
+package ar.edu.utn.frc.tup.lc.iii.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de una importación masiva de Dummys.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyImportReportDto {
+
+    /** Identificador de la importación (sirve para reanudarla) */
+    private String importId;
+
+    /** Registros salteados por estar ya procesados en una corrida anterior */
+    private long resumedFrom;
+
+    /** Registros procesados en esta corrida */
+    private long processed;
+
+    /** Registros aceptados en total */
+    private long accepted;
+
+    /** Registros rechazados en total */
+    private long rejected;
+
+    /** true si se procesó el archivo completo */
+    private boolean completed;
+
+    /** Duración de esta corrida en segundos */
+    private double seconds;
+
+    /** Registros procesados por segundo en esta corrida */
+    private double rowsPerSecond;
+
+    /** Detalle de los rechazos de esta corrida: número de registro, status y motivo */
+    private List<BulkItemResultDto> rejectedRows;
+}
@@ -0,0 +1,22 @@
+package ar.edu.utn.frc.tup.lc.iii.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Cuerpo de {@code POST /dummy/lookup}: ids, DNIs y/o emails a buscar en una sola llamada.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyLookupRequestDto {
+
+    private List<Long> ids;
+
+    private List<Long> dnis;
+
+    private List<String> emails;
+}
@@ -0,0 +1,31 @@
+package ar.edu.utn.frc.tup.lc.iii.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Respuesta de {@code POST /dummy/lookup}: por cada valor buscado, el Dummy encontrado o null si no existe.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyLookupResultDto {
+
+    /** Resultados por id */
+    private Map<Long, DummyDto> ids;
+
+    /** Resultados por DNI */
+    private Map<Long, DummyDto> dnis;
+
+    /** Resultados por email */
+    private Map<String, DummyDto> emails;
+
+    /** Cantidad de valores encontrados */
+    private int found;
+
+    /** Cantidad de valores sin Dummy (los que tienen null) */
+    private int missing;
+}
@@ -0,0 +1,52 @@
+package ar.edu.utn.frc.tup.lc.iii.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Registro del change-log (outbox) de Dummy: una fila por alta, modificación o baja, escrita en la
+ * misma transacción que el cambio.
+ *
+ * {@code seq} lo asigna la aplicación en orden creciente y es el cursor del feed de cambios.
+ * Los campos del Dummy son una foto del registro después del cambio (antes, en las bajas); en las bajas
+ * masivas solo se informa el id.
+ */
+@Entity
+@Table(name = "dummy_change")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DummyChangeEntry {
+
+    @Id
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+
+    /** CREATE, UPDATE o DELETE */
+    @Column(length = 6, nullable = false)
+    private String operation;
+
+    private Long dummyId;
+
+    private Long version;
+
+    private String dummy;
+
+    private Long dni;
+
+    private String email;
+
+    private Long tel;
+
+    private LocalDate fecha_Nac;
+
+    private LocalDateTime changedAt;
+}
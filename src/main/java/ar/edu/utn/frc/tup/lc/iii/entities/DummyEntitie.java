@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
@@ -15,15 +16,37 @@ import java.time.LocalDate;
  *
  * - {@link Entity}: indica que la clase será gestionada por JPA/Hibernate.
  * - {@link Data}, {@link AllArgsConstructor}, {@link NoArgsConstructor}: generan boilerplate con Lombok.
+ * - {@link DynamicUpdate}: los UPDATE solo incluyen las columnas que cambiaron (útil para PATCH).
+ * - {@link Table}: declara restricciones únicas sobre dni y email; la base crea un índice para cada una,
+ *   así las búsquedas por esos campos no recorren toda la tabla. Los índices sobre dummy, tel y
+ *   fecha_Nac sirven a la búsqueda filtrada.
  */
 @Entity
+@Table(name = "dummy_entitie", uniqueConstraints = {
+        @UniqueConstraint(name = DummyEntitie.UK_DNI, columnNames = "dni"),
+        @UniqueConstraint(name = DummyEntitie.UK_EMAIL, columnNames = "email")
+}, indexes = {
+        @Index(name = "ix_dummy_dummy", columnList = "dummy"),
+        @Index(name = "ix_dummy_tel", columnList = "tel"),
+        @Index(name = "ix_dummy_fecha_nac", columnList = "fecha_Nac")
+})
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class DummyEntitie {
-    /** Clave primaria autogenerada (IDENTITY) */
+    /** Nombre de la restricción única sobre dni */
+    public static final String UK_DNI = "uk_dummy_dni";
+    /** Nombre de la restricción única sobre email */
+    public static final String UK_EMAIL = "uk_dummy_email";
+
+    /**
+     * Clave primaria autogenerada por secuencia. Con IDENTITY Hibernate no puede agrupar los INSERT
+     * en lotes JDBC; la secuencia reserva bloques de 50 ids por consulta.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dummy_seq")
+    @SequenceGenerator(name = "dummy_seq", sequenceName = "dummy_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -37,4 +60,8 @@ public class DummyEntitie {
     private Long tel;
 
     private LocalDate fecha_Nac;
+
+    /** Versión para bloqueo optimista: Hibernate la incrementa en cada UPDATE y la verifica en el WHERE */
+    @Version
+    private Long version;
 }
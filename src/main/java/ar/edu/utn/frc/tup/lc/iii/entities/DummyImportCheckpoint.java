@@ -0,0 +1,42 @@
+package ar.edu.utn.frc.tup.lc.iii.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Avance de una importación masiva de Dummys, para poder reanudarla si falla.
+ *
+ * Se guarda después de confirmar cada lote: {@code records} es la cantidad de registros del archivo
+ * (aceptados o rechazados) que ya no hay que volver a procesar.
+ */
+@Entity
+@Table(name = "dummy_import_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DummyImportCheckpoint {
+
+    /** Identificador de la importación elegido por el cliente */
+    @Id
+    @Column(name = "import_id", length = 100, nullable = false)
+    private String importId;
+
+    /** Registros del archivo ya procesados */
+    private long records;
+
+    private long accepted;
+
+    private long rejected;
+
+    /** true cuando se procesó el archivo completo */
+    private boolean completed;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,40 @@
+package ar.edu.utn.frc.tup.lc.iii.exceptions;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * {@link ResponseStatusException} sin stack trace, para los errores esperados del negocio
+ * (Dummy inexistente, DNI duplicado, versión vieja, parámetros inválidos).
+ *
+ * Estos errores son respuestas normales de la API (p.ej. clientes que consultan DNIs que no existen)
+ * y pueden ser muy frecuentes; capturar el stack trace en cada uno es la parte más cara de lanzarlos
+ * y no aporta nada, porque el status y el mensaje ya dicen qué pasó. Al extender ResponseStatusException
+ * los catch existentes y {@link GlobalExceptionHandler} la siguen tratando igual.
+ */
+public class DummyStatusException extends ResponseStatusException {
+
+    private final HttpHeaders headers;
+
+    public DummyStatusException(HttpStatusCode status, String reason) {
+        this(status, reason, HttpHeaders.EMPTY);
+    }
+
+    /** Con headers para la respuesta de error (p.ej. {@code Retry-After} en los 503). */
+    public DummyStatusException(HttpStatusCode status, String reason, HttpHeaders headers) {
+        super(status, reason);
+        this.headers = headers;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    /** No captura el stack trace. */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,6 +1,14 @@
 package ar.edu.utn.frc.tup.lc.iii.exceptions;
 
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -11,9 +19,13 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.SQLException;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -21,10 +33,44 @@ import java.util.stream.Collectors;
  *
  * - @RestControllerAdvice: convierte cualquier excepción capturada en una respuesta JSON apropiada
  *   y aplica a todos los controladores REST del proyecto.
+ * - Cada error suma al contador {@code dummy.errors}, etiquetado por tipo de excepción y status.
+ * - El timestamp se formatea una vez por segundo y se reutiliza, en lugar de formatear la fecha en
+ *   cada error (los 404 de clientes que consultan DNIs inexistentes pueden ser muy frecuentes).
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** SQLState estándar de una violación de restricción única */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    /** Contadores ya registrados, para no buscarlos en el registro en cada error. */
+    private final Map<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    /** Último timestamp formateado y el segundo al que corresponde. */
+    private static volatile CachedTimestamp lastTimestamp = new CachedTimestamp(-1, "");
+
+    /**
+     * Camino liviano para los errores esperados del negocio ({@link DummyStatusException}: Dummy inexistente,
+     * duplicados, versión vieja). La excepción no tiene stack trace, el path se lee directo del request
+     * y el timestamp sale de la caché por segundo.
+     */
+    @ExceptionHandler(DummyStatusException.class)
+    public ResponseEntity<ErrorResponse> handleDummyStatus(DummyStatusException ex, HttpServletRequest request) {
+        HttpStatusCode status = statusOf(ex);
+        countError(ex, status);
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(status.value())
+                .error(status.toString())
+                .message(ex.getReason())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(status).headers(ex.getHeaders()).body(body);
+    }
+
     /**
      * Maneja las ResponseStatusException arrojadas desde servicios/controladores.
      *
@@ -36,9 +82,10 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ErrorResponse> handleResponseStatus(ResponseStatusException ex, WebRequest request) {
-        HttpStatusCode status = ex.getStatusCode();
+        HttpStatusCode status = statusOf(ex);
+        countError(ex, status);
         ErrorResponse body = ErrorResponse.builder()
-                .timestamp(OffsetDateTime.now().toString()) // fecha/hora ISO de cuando ocurrió el error
+                .timestamp(timestamp()) // fecha/hora ISO de cuando ocurrió el error
                 .status(status.value())                     // código HTTP (ej. 404)
                 .error(status.toString())                   // descripción (ej. 404 NOT_FOUND)
                 .message(ex.getReason())                    // tu mensaje personalizado
@@ -53,24 +100,63 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleEntityNotFound(EntityNotFoundException ex, WebRequest request) {
-        HttpStatus status = HttpStatus.NOT_FOUND;
+        HttpStatusCode status = statusOf(ex);
+        countError(ex, status);
         ErrorResponse body = ErrorResponse.builder()
-                .timestamp(OffsetDateTime.now().toString())
+                .timestamp(timestamp())
                 .status(status.value())
-                .error(status.getReasonPhrase())
+                .error(reasonPhrase(status))
                 .message(ex.getMessage())
                 .path(getPath(request))
                 .build();
         return ResponseEntity.status(status).body(body);
     }
 
+    /**
+     * Traduce violaciones de restricciones de la base según {@link #integrityStatus}: DNI o email duplicados
+     * a 406 Not Acceptable (el mismo estado que usa el servicio para los duplicados), datos que no cumplen
+     * otra restricción (NOT NULL, largo, clave foránea) a 400 y el resto a 500.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrity(DataIntegrityViolationException ex, WebRequest request) {
+        HttpStatusCode status = statusOf(ex);
+        countError(ex, status);
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(status.value())
+                .error(reasonPhrase(status))
+                .message(integrityMessage(status))
+                .path(getPath(request))
+                .build();
+        return ResponseEntity.status(status).body(body);
+    }
+
+    /**
+     * Traduce los conflictos de bloqueo optimista (otro request modificó el Dummy entre la lectura y
+     * la escritura) a 409 Conflict. El cliente debe volver a leer el recurso y reintentar.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLocking(OptimisticLockingFailureException ex, WebRequest request) {
+        HttpStatusCode status = statusOf(ex);
+        countError(ex, status);
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(status.value())
+                .error(reasonPhrase(status))
+                .message("El Dummy fue modificado por otra operación, vuelva a leerlo y reintente")
+                .path(getPath(request))
+                .build();
+        return ResponseEntity.status(status).body(body);
+    }
+
     /**
      * Maneja errores de validación provenientes de @Valid en parámetros/DTOs.
      * Responde 400 Bad Request con un mapa de errores por campo.
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex, WebRequest request) {
-        HttpStatus status = HttpStatus.BAD_REQUEST;
+        HttpStatusCode status = statusOf(ex);
+        countError(ex, status);
 
         // Agrupa los mensajes por nombre de campo: campo -> [lista de mensajes]
         Map<String, List<String>> validationErrors = ex.getBindingResult()
@@ -82,9 +168,9 @@ public class GlobalExceptionHandler {
                 ));
 
         ErrorResponse body = ErrorResponse.builder()
-                .timestamp(OffsetDateTime.now().toString())
+                .timestamp(timestamp())
                 .status(status.value())
-                .error(status.getReasonPhrase())
+                .error(reasonPhrase(status))
                 .message("Errores de validación")
                 .path(getPath(request))
                 .details(validationErrors) // detalles específicos de validación
@@ -99,17 +185,115 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex, WebRequest request) {
-        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+        HttpStatusCode status = statusOf(ex);
+        countError(ex, status);
         ErrorResponse body = ErrorResponse.builder()
-                .timestamp(OffsetDateTime.now().toString())
+                .timestamp(timestamp())
                 .status(status.value())
-                .error(status.getReasonPhrase())
+                .error(reasonPhrase(status))
                 .message(ex.getMessage()) // en prod puedes reemplazar por un mensaje genérico
                 .path(getPath(request))
                 .build();
         return ResponseEntity.status(status).body(body);
     }
 
+    /**
+     * Estado HTTP que este manejador produce para la excepción. Es la única definición del mapeo: cada
+     * handler toma de acá su estado, y las métricas del servicio lo usan para etiquetar cada operación con
+     * el mismo estado que recibe el cliente.
+     */
+    public static HttpStatusCode statusOf(Throwable ex) {
+        if (ex instanceof ResponseStatusException rse) {
+            return rse.getStatusCode();
+        }
+        if (ex instanceof EntityNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (ex instanceof DataIntegrityViolationException dive) {
+            return integrityStatus(dive);
+        }
+        if (ex instanceof OptimisticLockingFailureException) {
+            return HttpStatus.CONFLICT;
+        }
+        if (ex instanceof MethodArgumentNotValidException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    /** Descripción del estado (ej. "Not Found"); el código si no es uno estándar. */
+    private static String reasonPhrase(HttpStatusCode status) {
+        HttpStatus known = HttpStatus.resolve(status.value());
+        return known != null ? known.getReasonPhrase() : status.toString();
+    }
+
+    /**
+     * Estado para una violación de restricción, según la causa más específica que informa el driver:
+     * - 406 si es una restricción única: {@link DuplicateKeyException}, el nombre de
+     *   {@link DummyEntitie#UK_DNI} o {@link DummyEntitie#UK_EMAIL} en el mensaje (H2 lo incluye en el
+     *   nombre del índice) o SQLState 23505.
+     * - 400 para las demás violaciones de integridad (clase 23: NOT NULL, clave foránea, check) y los
+     *   datos inválidos (clase 22: valor demasiado largo, fuera de rango).
+     * - 500 si no se puede saber qué restricción falló.
+     */
+    private static HttpStatus integrityStatus(DataIntegrityViolationException ex) {
+        Throwable cause = ex.getMostSpecificCause();
+        String message = cause.getMessage() == null ? "" : cause.getMessage().toLowerCase();
+        String sqlState = cause instanceof SQLException sql && sql.getSQLState() != null ? sql.getSQLState() : "";
+        if (ex instanceof DuplicateKeyException || message.contains(DummyEntitie.UK_DNI)
+                || message.contains(DummyEntitie.UK_EMAIL) || sqlState.equals(UNIQUE_VIOLATION)) {
+            return HttpStatus.NOT_ACCEPTABLE;
+        }
+        if (sqlState.startsWith("22") || sqlState.startsWith("23")) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * Mensaje para el cliente de una violación de restricción con el estado de {@link #integrityStatus}.
+     */
+    public static String integrityMessage(HttpStatusCode status) {
+        if (status.value() == HttpStatus.NOT_ACCEPTABLE.value()) {
+            return "El Dummy viola una restricción de unicidad";
+        }
+        if (status.value() == HttpStatus.BAD_REQUEST.value()) {
+            return "El Dummy tiene datos que la base no acepta";
+        }
+        return "No se pudo guardar el Dummy";
+    }
+
+    /**
+     * Suma uno al contador {@code dummy.errors} del tipo de excepción y status.
+     */
+    private void countError(Exception ex, HttpStatusCode status) {
+        errorCounters.computeIfAbsent(new ErrorKey(ex.getClass(), status.value()), key -> Counter.builder("dummy.errors")
+                        .description("Errores respondidos por la API, por tipo de excepción y status")
+                        .tag("type", key.type().getSimpleName())
+                        .tag("status", String.valueOf(key.status()))
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * Fecha/hora ISO actual con precisión de segundos. Se formatea como mucho una vez por segundo.
+     */
+    static String timestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = lastTimestamp;
+        if (cached.second() != second) {
+            cached = new CachedTimestamp(second, OffsetDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault()).toString());
+            lastTimestamp = cached;
+        }
+        return cached.text();
+    }
+
+    private record ErrorKey(Class<?> type, int status) {
+    }
+
+    private record CachedTimestamp(long second, String text) {
+    }
+
     /**
      * Extrae la URI del request en formato simple (por ejemplo: "/api/dummys/999").
      */
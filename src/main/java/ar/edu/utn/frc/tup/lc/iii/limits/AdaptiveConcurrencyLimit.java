@@ -0,0 +1,59 @@
+package ar.edu.utn.frc.tup.lc.iii.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite de pedidos simultáneos que se ajusta con la latencia observada (AIMD, sin locks).
+ *
+ * - Empieza en {@code maxLimit}.
+ * - Si un pedido tarda más que {@code latencyTargetNanos} o falla con 5xx, el límite baja un 10%
+ *   (al menos 1, nunca por debajo de 1): la base o el servidor están saturados para esta ruta.
+ * - Si termina a tiempo con al menos la mitad del límite en uso, sube de a 1 hasta {@code maxLimit}.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AdaptiveConcurrencyLimit(int maxLimit, long latencyTargetNanos) {
+        if (maxLimit < 1) {
+            throw new IllegalArgumentException("maxLimit debe ser al menos 1");
+        }
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.limit = new AtomicInteger(maxLimit);
+    }
+
+    /** Toma un lugar si hay menos pedidos en curso que el límite actual. */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Libera el lugar tomado con {@link #tryAcquire} y ajusta el límite con el resultado del pedido. */
+    public void release(long latencyNanos, boolean failed) {
+        int wasInFlight = inFlight.getAndDecrement();
+        if (failed || latencyNanos > latencyTargetNanos) {
+            limit.updateAndGet(current -> Math.max(1, current - Math.max(1, current / 10)));
+        } else if (wasInFlight * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,177 @@
+package ar.edu.utn.frc.tup.lc.iii.limits;
+
+import ar.edu.utn.frc.tup.lc.iii.exceptions.DummyStatusException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Límite de pedidos por ruta y cliente para los endpoints de Dummy: un cliente que satura una ruta
+ * recibe 429 sin afectar a los demás.
+ *
+ * - Cliente: el usuario autenticado si lo hay; si no, la IP remota. El header {@code app.limits.client-header}
+ *   (X-Client-Id) solo se usa si el pedido llega desde un proxy de {@code app.limits.trusted-proxies}:
+ *   si lo eligiera el propio cliente, le bastaría mandar un id distinto en cada pedido para tener
+ *   siempre un bucket lleno (y de paso llenar la caché de límites).
+ * - Ruta: método + patrón del handler (p.ej. {@code GET /dummy/{id}}).
+ * - Cada ruta+cliente tiene un {@link TokenBucket} (pedidos por segundo y ráfaga) y un
+ *   {@link AdaptiveConcurrencyLimit} (pedidos simultáneos, se achica si la ruta se pone lenta).
+ * - Las rutas caras ({@code app.limits.expensive.routes}: recorridos completos, búsquedas, masivas,
+ *   exportación) usan {@code app.limits.expensive.*}; el resto {@code app.limits.default.*}.
+ * - Las rutas de {@code app.limits.unbounded-concurrency-routes} (long-poll) solo tienen límite de tasa:
+ *   su demora es espera, no carga.
+ *
+ * El rechazo es una {@link DummyStatusException} 429 con {@code Retry-After}, que responde
+ * GlobalExceptionHandler. Métricas: {@code dummy.limits.rejected} (tags route y reason=rate|concurrency),
+ * {@code dummy.limits.in.flight} (tag class=default|expensive) y {@code dummy.limits.clients}
+ * (ruta+cliente con estado en memoria, a lo sumo {@code app.limits.max-clients}).
+ *
+ * En los endpoints asincrónicos y de streaming el lugar se libera al terminar la respuesta (despacho async).
+ */
+@Component
+public class DummyLimitsInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = DummyLimitsInterceptor.class.getName() + ".permit";
+
+    private final boolean enabled;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    private final RouteLimits defaultLimits;
+    private final RouteLimits expensiveLimits;
+    private final Set<String> expensiveRoutes;
+    private final Set<String> unboundedConcurrencyRoutes;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<LimiterKey, Limiter> limiters;
+
+    /** Límites de una clase de rutas; {@code inFlight} suma los pedidos en curso de toda la clase. */
+    private record RouteLimits(String name, double rate, int burst, int maxConcurrency, Duration latencyTarget,
+                               LongAdder inFlight) {
+    }
+
+    private record LimiterKey(String route, String client) {
+    }
+
+    private record Limiter(RouteLimits limits, TokenBucket bucket, AdaptiveConcurrencyLimit concurrency) {
+    }
+
+    private record Permit(Limiter limiter, long startNanos) {
+    }
+
+    public DummyLimitsInterceptor(@Value("${app.limits.enabled:true}") boolean enabled,
+                                  @Value("${app.limits.client-header:X-Client-Id}") String clientHeader,
+                                  @Value("${app.limits.trusted-proxies:}") Set<String> trustedProxies,
+                                  @Value("${app.limits.max-clients:100000}") long maxClients,
+                                  @Value("${app.limits.default.rate:200}") double defaultRate,
+                                  @Value("${app.limits.default.burst:400}") int defaultBurst,
+                                  @Value("${app.limits.default.max-concurrency:64}") int defaultConcurrency,
+                                  @Value("${app.limits.default.latency-target:PT0.5S}") Duration defaultLatency,
+                                  @Value("${app.limits.expensive.rate:5}") double expensiveRate,
+                                  @Value("${app.limits.expensive.burst:10}") int expensiveBurst,
+                                  @Value("${app.limits.expensive.max-concurrency:2}") int expensiveConcurrency,
+                                  @Value("${app.limits.expensive.latency-target:PT5S}") Duration expensiveLatency,
+                                  @Value("${app.limits.expensive.routes:}") Set<String> expensiveRoutes,
+                                  @Value("${app.limits.unbounded-concurrency-routes:}") Set<String> unboundedConcurrencyRoutes,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = trustedProxies;
+        this.defaultLimits = new RouteLimits("default", defaultRate, defaultBurst, defaultConcurrency, defaultLatency, new LongAdder());
+        this.expensiveLimits = new RouteLimits("expensive", expensiveRate, expensiveBurst, expensiveConcurrency, expensiveLatency, new LongAdder());
+        this.expensiveRoutes = expensiveRoutes;
+        this.unboundedConcurrencyRoutes = unboundedConcurrencyRoutes;
+        this.meterRegistry = meterRegistry;
+        // Un cliente inactivo pierde su estado: al volver empieza con el bucket lleno, igual que uno nuevo
+        this.limiters = Caffeine.newBuilder().maximumSize(maxClients).expireAfterAccess(Duration.ofMinutes(10)).build();
+
+        for (RouteLimits limits : new RouteLimits[]{defaultLimits, expensiveLimits}) {
+            Gauge.builder("dummy.limits.in.flight", limits.inFlight(), LongAdder::sum)
+                    .description("Pedidos en curso con límite de concurrencia, por clase de ruta")
+                    .tag("class", limits.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("dummy.limits.clients", limiters, Cache::estimatedSize)
+                .description("Combinaciones ruta+cliente con estado de límite en memoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // En el despacho async (respuesta de un CompletableFuture o streaming) el pedido ya se contó
+        if (!enabled || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        String route = request.getMethod() + " " + pattern;
+        RouteLimits limits = expensiveRoutes.contains(route) ? expensiveLimits : defaultLimits;
+        Limiter limiter = limiters.get(new LimiterKey(route, clientOf(request)), key -> new Limiter(limits,
+                new TokenBucket(limits.rate(), limits.burst(), System.nanoTime()),
+                new AdaptiveConcurrencyLimit(limits.maxConcurrency(), limits.latencyTarget().toNanos())));
+
+        long wait = limiter.bucket().tryAcquire(System.nanoTime());
+        if (wait > 0) {
+            throw rejected(route, "rate", wait);
+        }
+        if (unboundedConcurrencyRoutes.contains(route)) {
+            return true;
+        }
+        if (!limiter.concurrency().tryAcquire()) {
+            throw rejected(route, "concurrency", TimeUnit.SECONDS.toNanos(1));
+        }
+        limits.inFlight().increment();
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.limiter().limits().inFlight().decrement();
+            permit.limiter().concurrency().release(System.nanoTime() - permit.startNanos(),
+                    ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    /**
+     * Identifica al cliente: el header solo si lo puso un proxy de confianza, si no el usuario autenticado
+     * o la IP remota. Los prefijos evitan que un id del header coincida con un usuario o una IP.
+     */
+    private String clientOf(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        if (trustedProxies.contains(remote)) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return "header:" + client;
+            }
+        }
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : "ip:" + remote;
+    }
+
+    private DummyStatusException rejected(String route, String reason, long waitNanos) {
+        meterRegistry.counter("dummy.limits.rejected", "route", route, "reason", reason).increment();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+        return new DummyStatusException(HttpStatus.TOO_MANY_REQUESTS, "Demasiados pedidos a " + route + ", reintentar más tarde", headers);
+    }
+}
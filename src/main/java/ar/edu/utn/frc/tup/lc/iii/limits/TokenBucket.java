@@ -0,0 +1,46 @@
+package ar.edu.utn.frc.tup.lc.iii.limits;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin locks: {@code rate} pedidos por segundo con ráfagas de hasta {@code burst}.
+ *
+ * Se implementa como GCRA (generic cell rate algorithm), equivalente a un token bucket: en lugar de
+ * contar tokens y reponerlos, guarda un único long con el "tiempo teórico de llegada" (TAT) del próximo
+ * pedido. Un pedido se acepta si el TAT no está más de {@code (burst - 1)} intervalos en el futuro, y al
+ * aceptarlo el TAT avanza un intervalo. Así el estado completo se actualiza con un compareAndSet.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double rate, int burst, long nowNanos) {
+        if (rate <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate debe ser positivo y burst al menos 1");
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000 / rate));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Intenta tomar un token en el instante {@code nowNanos} (System.nanoTime()).
+     *
+     * @return 0 si se tomó; si no, los nanosegundos que faltan para que haya uno disponible
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long wait = base - toleranceNanos - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
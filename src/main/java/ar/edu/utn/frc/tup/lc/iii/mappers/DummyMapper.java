@@ -0,0 +1,180 @@
+package ar.edu.utn.frc.tup.lc.iii.mappers;
+
+import ar.edu.utn.frc.tup.lc.iii.dtos.BulkItemResultDto;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyChangeDto;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyDto;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyImportReportDto;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyLookupResultDto;
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyChangeEntry;
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.models.BulkItemResult;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChange;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChangeType;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyImportReport;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookupResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapeador escrito a mano entre {@link DummyEntitie}, {@link Dummy} y {@link DummyDto}.
+ *
+ * Reemplaza a ModelMapper en el camino caliente: copia campo a campo sin reflexión,
+ * por lo que el costo es el de crear el objeto destino.
+ * Si se agrega un campo a las clases, hay que agregarlo también aquí.
+ */
+@Component
+public class DummyMapper {
+
+    /** Entity -> Model */
+    public Dummy toModel(DummyEntitie entity) {
+        return new Dummy(entity.getId(), entity.getDummy(), entity.getDni(),
+                entity.getEmail(), entity.getTel(), entity.getFecha_Nac(), entity.getVersion());
+    }
+
+    /** DTO -> Model */
+    public Dummy toModel(DummyDto dto) {
+        return new Dummy(dto.getId(), dto.getDummy(), dto.getDni(),
+                dto.getEmail(), dto.getTel(), dto.getFecha_Nac(), dto.getVersion());
+    }
+
+    /** Model -> Entity */
+    public DummyEntitie toEntity(Dummy dummy) {
+        DummyEntitie entity = new DummyEntitie();
+        entity.setId(dummy.getId());
+        entity.setDummy(dummy.getDummy());
+        entity.setDni(dummy.getDni());
+        entity.setEmail(dummy.getEmail());
+        entity.setTel(dummy.getTel());
+        entity.setFecha_Nac(dummy.getFecha_Nac());
+        entity.setVersion(dummy.getVersion());
+        return entity;
+    }
+
+    /** Model -> DTO */
+    public DummyDto toDto(Dummy dummy) {
+        return new DummyDto(dummy.getId(), dummy.getDummy(), dummy.getDni(),
+                dummy.getEmail(), dummy.getTel(), dummy.getFecha_Nac(), dummy.getVersion());
+    }
+
+    /** Entity -> DTO directo, sin pasar por el modelo intermedio */
+    public DummyDto toDto(DummyEntitie entity) {
+        return new DummyDto(entity.getId(), entity.getDummy(), entity.getDni(),
+                entity.getEmail(), entity.getTel(), entity.getFecha_Nac(), entity.getVersion());
+    }
+
+    /** Lista de entidades -> lista de modelos */
+    public List<Dummy> toModels(List<DummyEntitie> entities) {
+        List<Dummy> models = new ArrayList<>(entities.size());
+        for (DummyEntitie entity : entities) {
+            models.add(toModel(entity));
+        }
+        return models;
+    }
+
+    /** Lista de modelos -> lista de DTOs */
+    public List<DummyDto> toDtos(List<Dummy> models) {
+        List<DummyDto> dtos = new ArrayList<>(models.size());
+        for (Dummy model : models) {
+            dtos.add(toDto(model));
+        }
+        return dtos;
+    }
+
+    /** Resultados de operaciones masivas -> DTOs */
+    public List<BulkItemResultDto> toBulkDtos(List<BulkItemResult> results) {
+        List<BulkItemResultDto> dtos = new ArrayList<>(results.size());
+        for (BulkItemResult result : results) {
+            dtos.add(new BulkItemResultDto(result.getIndex(), result.getId(), result.getStatus(), result.getMessage()));
+        }
+        return dtos;
+    }
+
+    /** Resultado de una importación masiva -> DTO */
+    public DummyImportReportDto toDto(DummyImportReport report) {
+        return new DummyImportReportDto(report.getImportId(), report.getResumedFrom(), report.getProcessed(),
+                report.getAccepted(), report.getRejected(), report.isCompleted(), report.getSeconds(),
+                report.getRowsPerSecond(), toBulkDtos(report.getRejectedRows()));
+    }
+
+    /** Resultado de una búsqueda masiva -> DTO (los no encontrados quedan en null) */
+    public DummyLookupResultDto toDto(DummyLookupResult result) {
+        Map<Long, DummyDto> ids = toDtoMap(result.getById());
+        Map<Long, DummyDto> dnis = toDtoMap(result.getByDni());
+        Map<String, DummyDto> emails = toDtoMap(result.getByEmail());
+        int total = ids.size() + dnis.size() + emails.size();
+        int found = countFound(ids) + countFound(dnis) + countFound(emails);
+        return new DummyLookupResultDto(ids, dnis, emails, found, total - found);
+    }
+
+    private static int countFound(Map<?, DummyDto> dtos) {
+        int found = 0;
+        for (DummyDto dto : dtos.values()) {
+            if (dto != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private <K> Map<K, DummyDto> toDtoMap(Map<K, Dummy> models) {
+        Map<K, DummyDto> dtos = new LinkedHashMap<>();
+        models.forEach((key, model) -> dtos.put(key, model == null ? null : toDto(model)));
+        return dtos;
+    }
+
+    /** Registro del change-log -> Model */
+    public DummyChange toModel(DummyChangeEntry entry) {
+        Dummy dummy = new Dummy(entry.getDummyId(), entry.getDummy(), entry.getDni(),
+                entry.getEmail(), entry.getTel(), entry.getFecha_Nac(), entry.getVersion());
+        return new DummyChange(entry.getSeq(), DummyChangeType.valueOf(entry.getOperation()), dummy, entry.getChangedAt());
+    }
+
+    /** Cambios -> DTOs */
+    public List<DummyChangeDto> toChangeDtos(List<DummyChange> changes) {
+        List<DummyChangeDto> dtos = new ArrayList<>(changes.size());
+        for (DummyChange change : changes) {
+            dtos.add(new DummyChangeDto(change.getSeq(), change.getOperation().name(),
+                    toDto(change.getDummy()), change.getChangedAt()));
+        }
+        return dtos;
+    }
+
+    /**
+     * Copia al destino todas las propiedades del origen, incluso las nulas (reemplazo completo).
+     * El id y la versión nunca se modifican.
+     */
+    public void replace(Dummy source, DummyEntitie target) {
+        target.setDummy(source.getDummy());
+        target.setDni(source.getDni());
+        target.setEmail(source.getEmail());
+        target.setTel(source.getTel());
+        target.setFecha_Nac(source.getFecha_Nac());
+    }
+
+    /**
+     * Copia al destino solo las propiedades NO nulas del origen (misma semántica que el
+     * bean "mergerMapper"). El id y la versión nunca se modifican.
+     */
+    public void merge(Dummy source, DummyEntitie target) {
+        if (source.getDummy() != null) {
+            target.setDummy(source.getDummy());
+        }
+        if (source.getDni() != null) {
+            target.setDni(source.getDni());
+        }
+        if (source.getEmail() != null) {
+            target.setEmail(source.getEmail());
+        }
+        if (source.getTel() != null) {
+            target.setTel(source.getTel());
+        }
+        if (source.getFecha_Nac() != null) {
+            target.setFecha_Nac(source.getFecha_Nac());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de un elemento dentro de una operación masiva.
+ * Campos:
+ * int index: posición del elemento en la entrada
+ * Long id: id del Dummy afectado (null si no se pudo resolver)
+ * int status: código HTTP equivalente a la operación individual (200, 404, 406...)
+ * String message: motivo del rechazo (null si fue exitoso)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemResult {
+
+    private int index;
+
+    private Long id;
+
+    private int status;
+
+    private String message;
+}
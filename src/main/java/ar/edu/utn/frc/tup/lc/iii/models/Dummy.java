@@ -16,6 +16,7 @@ import java.time.LocalDate;
  * -String email
  * -Long tel
  * -LocalDate fecha_Nac
+ * -Long version (bloqueo optimista; se expone como ETag)
  */
 @Data
 @AllArgsConstructor
@@ -34,5 +35,8 @@ public class Dummy {
 
     private LocalDate fecha_Nac;
 
+    /** Versión del registro; en las modificaciones es la versión esperada (null = sin verificar) */
+    private Long version;
+
 }
 
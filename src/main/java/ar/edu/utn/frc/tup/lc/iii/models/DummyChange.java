@@ -0,0 +1,29 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio de un Dummy dentro del feed de cambios.
+ * Campos:
+ * long seq: posición en el feed (cursor), creciente
+ * DummyChangeType operation: alta, modificación o baja
+ * Dummy dummy: estado del Dummy después del cambio (antes, en las bajas). En las bajas masivas solo trae id.
+ * LocalDateTime changedAt: cuándo se registró el cambio
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyChange {
+
+    private long seq;
+
+    private DummyChangeType operation;
+
+    private Dummy dummy;
+
+    private LocalDateTime changedAt;
+}
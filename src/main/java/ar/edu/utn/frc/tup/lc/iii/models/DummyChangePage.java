@@ -0,0 +1,24 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página del feed de cambios de Dummy.
+ * Campos:
+ * List<DummyChange> changes: cambios en orden de seq
+ * long nextCursor: valor de {@code after} para la próxima consulta. Puede ser mayor que el último seq
+ * devuelto si en el medio hay seq de transacciones revertidas.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyChangePage {
+
+    private List<DummyChange> changes;
+
+    private long nextCursor;
+}
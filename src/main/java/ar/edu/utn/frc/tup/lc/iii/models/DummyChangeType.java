@@ -0,0 +1,10 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+/**
+ * Tipo de cambio informado en el feed de cambios de Dummy.
+ */
+public enum DummyChangeType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,22 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+/**
+ * Formatos de la exportación completa de Dummys.
+ *
+ * - NDJSON: un objeto JSON por línea, con los mismos campos que DummyDto.
+ * - CSV: una fila por Dummy con encabezado id,dummy,dni,email,tel,fecha_Nac,version.
+ */
+public enum DummyExportFormat {
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String extension;
+
+    DummyExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
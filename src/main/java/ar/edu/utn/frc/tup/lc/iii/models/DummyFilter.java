@@ -0,0 +1,37 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Criterios de búsqueda de Dummys. Los campos nulos no filtran.
+ * Campos:
+ * String dummy (igualdad)
+ * Long dni (igualdad)
+ * String email (igualdad)
+ * Long tel (igualdad)
+ * LocalDate fechaNacDesde / fechaNacHasta (rango inclusivo sobre fecha_Nac)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyFilter {
+
+    private String dummy;
+
+    private Long dni;
+
+    private String email;
+
+    private Long tel;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fechaNacDesde;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fechaNacHasta;
+}
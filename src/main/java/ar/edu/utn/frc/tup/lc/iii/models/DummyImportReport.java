@@ -0,0 +1,42 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva.
+ * Campos:
+ * String importId: identificador de la importación
+ * long resumedFrom: registros ya procesados en corridas anteriores (se saltearon)
+ * long processed: registros procesados en esta corrida
+ * long accepted / rejected: totales de la importación (todas las corridas)
+ * boolean completed: si se llegó al final del archivo
+ * double seconds / rowsPerSecond: duración y velocidad de esta corrida
+ * List<BulkItemResult> rejectedRows: detalle de los rechazos de esta corrida (index = número de registro, desde 1)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyImportReport {
+
+    private String importId;
+
+    private long resumedFrom;
+
+    private long processed;
+
+    private long accepted;
+
+    private long rejected;
+
+    private boolean completed;
+
+    private double seconds;
+
+    private double rowsPerSecond;
+
+    private List<BulkItemResult> rejectedRows;
+}
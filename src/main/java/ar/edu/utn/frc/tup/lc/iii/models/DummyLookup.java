@@ -0,0 +1,26 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Claves de una búsqueda masiva de Dummys. Cualquiera de las listas puede ser null o vacía.
+ * Campos:
+ * List<Long> ids: ids buscados
+ * List<Long> dnis: DNIs buscados
+ * List<String> emails: emails buscados
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyLookup {
+
+    private List<Long> ids;
+
+    private List<Long> dnis;
+
+    private List<String> emails;
+}
@@ -0,0 +1,23 @@
+package ar.edu.utn.frc.tup.lc.iii.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Resultado de una búsqueda masiva: un mapa por tipo de clave, con una entrada por valor buscado
+ * (sin repetidos, en el orden de la entrada). Los valores que no existen tienen Dummy null.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyLookupResult {
+
+    private Map<Long, Dummy> byId;
+
+    private Map<Long, Dummy> byDni;
+
+    private Map<String, Dummy> byEmail;
+}
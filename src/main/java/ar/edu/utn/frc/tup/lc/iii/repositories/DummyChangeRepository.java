@@ -0,0 +1,23 @@
+package ar.edu.utn.frc.tup.lc.iii.repositories;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyChangeEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio del change-log de Dummy.
+ */
+@Repository
+public interface DummyChangeRepository extends JpaRepository<DummyChangeEntry, Long> {
+
+    /** Cambios con seq en (after, upTo], en orden; recorre la clave primaria desde {@code after}. */
+    List<DummyChangeEntry> findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(Long after, Long upTo, Limit limit);
+
+    /** Último seq registrado (null si el change-log está vacío). */
+    @Query("select max(c.seq) from DummyChangeEntry c")
+    Long findMaxSeq();
+}
@@ -0,0 +1,41 @@
+package ar.edu.utn.frc.tup.lc.iii.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Lectura de toda la tabla de Dummys con un cursor JDBC, para exportaciones.
+ *
+ * No pasa por JPA: no hay entidades en el contexto de persistencia ni mapeos, cada fila se entrega
+ * al handler y se descarta. El driver trae las filas de a {@code app.export.fetch-size}, así la memoria
+ * usada no depende del tamaño de la tabla.
+ */
+@Repository
+public class DummyExportRepository {
+
+    /** Columnas en el orden en que se exportan */
+    public static final String COLUMNS = "id, dummy, dni, email, tel, fecha_nac, version";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Recorre todos los Dummys ordenados por id y entrega cada fila a {@code handler}.
+     */
+    public void forEachRow(RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(
+                    "SELECT " + COLUMNS + " FROM dummy_entitie ORDER BY id");
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, handler);
+    }
+}
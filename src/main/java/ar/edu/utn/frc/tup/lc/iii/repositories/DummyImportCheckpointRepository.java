@@ -0,0 +1,12 @@
+package ar.edu.utn.frc.tup.lc.iii.repositories;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio de los checkpoints de importación, por id de importación.
+ */
+@Repository
+public interface DummyImportCheckpointRepository extends JpaRepository<DummyImportCheckpoint, String> {
+}
@@ -2,20 +2,144 @@ package ar.edu.utn.frc.tup.lc.iii.repositories;
 
 
 import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio JPA para acceder a la persistencia de {@link DummyEntitie}.
- * Extiende {@link JpaRepository} para obtener operaciones CRUD básicas.
+ * Extiende {@link JpaRepository} para obtener operaciones CRUD básicas y {@link DummySearchRepository}
+ * para la búsqueda por filtro armada con {@link DummySpecifications}.
+ *
+ * Las lecturas del servicio usan los métodos {@code *Model*}: proyectan las columnas directo al modelo
+ * {@link Dummy} con una expresión constructora, así Hibernate no arma entidades administradas, no guarda
+ * la copia para dirty checking ni hace falta mapear entidad -> modelo. Corren en transacciones de solo
+ * lectura (sin flush). Los métodos que devuelven {@link DummyEntitie} quedan para las escrituras.
  */
 @Repository
-public interface DummyRepository extends JpaRepository<DummyEntitie, Long> {
+public interface DummyRepository extends JpaRepository<DummyEntitie, Long>, DummySearchRepository {
+
+    /** Select de la proyección al modelo; las consultas {@code *Model*} le agregan su WHERE */
+    String AS_MODEL = "select new ar.edu.utn.frc.tup.lc.iii.models.Dummy(d.id, d.dummy, d.dni, d.email, d.tel, "
+            + "d.fecha_Nac, d.version) from DummyEntitie d";
+
     /**
      * Busca por id devolviendo Optional. Sobrescribimos para documentar.
      */
     @Override
     Optional<DummyEntitie> findById(Long Long);
+
+    /**
+     * Busca por DNI usando el índice único de la columna (una sola consulta, sin recorrer la tabla).
+     */
+    Optional<DummyEntitie> findByDni(Long dni);
+
+    /**
+     * Busca por email usando el índice único de la columna.
+     */
+    Optional<DummyEntitie> findByEmail(String email);
+
+    /**
+     * Devuelve los Dummy que ya usan alguno de los DNI o emails dados. Es la validación de unicidad
+     * de las altas masivas: una sola consulta por lote.
+     */
+    List<DummyEntitie> findByDniInOrEmailIn(Collection<Long> dnis, Collection<String> emails);
+
+    /** De los ids dados, devuelve los que existen (sin hidratar entidades). */
+    @Query("select d.id from DummyEntitie d where d.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /** Indica si existe un Dummy con ese DNI sin hidratar la entidad. */
+    boolean existsByDni(Long dni);
+
+    /** Indica si existe un Dummy con ese email sin hidratar la entidad. */
+    boolean existsByEmail(String email);
+
+    /**
+     * Página por número sin la consulta de conteo que haría {@code findAll(Pageable)}.
+     */
+    Slice<DummyEntitie> findAllBy(Pageable pageable);
+
+
+    /** Dummy con ese id, proyectado al modelo. */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.id = :id")
+    Optional<Dummy> findModelById(@Param("id") Long id);
+
+    /** Dummy con ese DNI (índice único), proyectado al modelo. */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.dni = :dni")
+    Optional<Dummy> findModelByDni(@Param("dni") Long dni);
+
+    /** Dummy con ese email (índice único), proyectado al modelo. */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.email = :email")
+    Optional<Dummy> findModelByEmail(@Param("email") String email);
+
+    /**
+     * Dummys con ese valor en el campo 'dummy' (usa su índice), proyectados al modelo y ordenados por id
+     * descendente; con {@code pageable} se limita la cantidad (el último es la primera fila).
+     */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.dummy = :dummy order by d.id desc")
+    List<Dummy> findLatestModelsByDummy(@Param("dummy") String dummy, Pageable pageable);
+
+    /** Todos los Dummy con ese valor en el campo 'dummy' (usa su índice), proyectados al modelo. */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.dummy = :dummy order by d.id")
+    List<Dummy> findModelsByDummy(@Param("dummy") String dummy);
+
+    /** Todos los Dummy, proyectados al modelo. */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL)
+    List<Dummy> findAllModels();
+
+    /** Página por número sin consulta de conteo, proyectada al modelo. */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL)
+    Slice<Dummy> findModels(Pageable pageable);
+
+    /**
+     * Paginación por cursor (keyset): los siguientes registros con id mayor al indicado, según el orden y
+     * tamaño de {@code pageable}. Usa el índice de la clave primaria, así el costo no crece con la página.
+     */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.id > :id")
+    List<Dummy> findModelsAfter(@Param("id") Long id, Pageable pageable);
+
+    /** Dummys con alguno de los ids dados (consulta IN sobre la clave primaria). */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.id in :ids")
+    List<Dummy> findModelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Dummys con alguno de los DNI dados (consulta IN sobre el índice único). */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.dni in :dnis")
+    List<Dummy> findModelsByDniIn(@Param("dnis") Collection<Long> dnis);
+
+    /** Dummys con alguno de los emails dados (consulta IN sobre el índice único). */
+    @Transactional(readOnly = true)
+    @Query(AS_MODEL + " where d.email in :emails")
+    List<Dummy> findModelsByEmailIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Recorre toda la tabla proyectada al modelo con un cursor. Debe consumirse dentro de una transacción
+     * y cerrarse al terminar; como no hay entidades, el contexto de persistencia no crece.
+     */
+    @Query(AS_MODEL + " order by d.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Dummy> streamAllModels();
 }
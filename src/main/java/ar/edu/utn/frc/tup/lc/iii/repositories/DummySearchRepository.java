@@ -0,0 +1,19 @@
+package ar.edu.utn.frc.tup.lc.iii.repositories;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Búsqueda por filtro proyectada al modelo. Fragmento de {@link DummyRepository}, implementado en
+ * {@link DummySearchRepositoryImpl}.
+ */
+public interface DummySearchRepository {
+
+    /**
+     * Página de Dummys que cumplen los criterios no nulos de {@code filter}, proyectados al modelo, con el
+     * total para la página.
+     */
+    Page<Dummy> findModelsMatching(DummyFilter filter, Pageable pageable);
+}
@@ -0,0 +1,59 @@
+package ar.edu.utn.frc.tup.lc.iii.repositories;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/**
+ * Arma la búsqueda por filtro con Criteria: el WHERE sale de {@link DummySpecifications#matching}, que
+ * agrega solo los criterios informados, así la base puede usar el índice de cada columna (un WHERE con
+ * {@code :x is null or ...} por criterio la obliga a recorrer la tabla). El SELECT es la expresión
+ * constructora de {@link Dummy}, igual que las consultas {@code *Model*} de {@link DummyRepository}.
+ */
+class DummySearchRepositoryImpl implements DummySearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Dummy> findModelsMatching(DummyFilter filter, Pageable pageable) {
+        Specification<DummyEntitie> spec = DummySpecifications.matching(filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Dummy> query = cb.createQuery(Dummy.class);
+        Root<DummyEntitie> d = query.from(DummyEntitie.class);
+        query.select(cb.construct(Dummy.class, d.get("id"), d.get("dummy"), d.get("dni"), d.get("email"),
+                        d.get("tel"), d.get("fecha_Nac"), d.get("version")))
+                .where(spec.toPredicate(d, query, cb))
+                .orderBy(toOrders(pageable.getSort(), d, cb));
+        List<Dummy> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // El conteo solo se consulta si la página no alcanza para deducir el total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec, cb));
+    }
+
+    private long count(Specification<DummyEntitie> spec, CriteriaBuilder cb) {
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<DummyEntitie> d = query.from(DummyEntitie.class);
+        query.select(cb.count(d)).where(spec.toPredicate(d, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,47 @@
+package ar.edu.utn.frc.tup.lc.iii.repositories;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyFilter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Traduce un {@link DummyFilter} a una {@link Specification} de JPA, es decir a una única
+ * consulta SQL con un WHERE sobre las columnas indexadas de {@link DummyEntitie}.
+ */
+public final class DummySpecifications {
+
+    private DummySpecifications() {
+    }
+
+    /**
+     * Combina con AND todos los criterios no nulos del filtro. Un filtro vacío devuelve todo.
+     */
+    public static Specification<DummyEntitie> matching(DummyFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getDummy() != null) {
+                predicates.add(cb.equal(root.get("dummy"), filter.getDummy()));
+            }
+            if (filter.getDni() != null) {
+                predicates.add(cb.equal(root.get("dni"), filter.getDni()));
+            }
+            if (filter.getEmail() != null) {
+                predicates.add(cb.equal(root.get("email"), filter.getEmail()));
+            }
+            if (filter.getTel() != null) {
+                predicates.add(cb.equal(root.get("tel"), filter.getTel()));
+            }
+            if (filter.getFechaNacDesde() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("fecha_Nac"), filter.getFechaNacDesde()));
+            }
+            if (filter.getFechaNacHasta() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("fecha_Nac"), filter.getFechaNacHasta()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
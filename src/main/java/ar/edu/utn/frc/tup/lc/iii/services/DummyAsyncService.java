@@ -0,0 +1,36 @@
+package ar.edu.utn.frc.tup.lc.iii.services;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookup;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookupResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante asíncrona de las lecturas de {@link DummyService}, para quien necesita muchas consultas a la
+ * vez sin dedicar un hilo a cada una.
+ *
+ * Las consultas corren en un executor acotado al tamaño del pool de conexiones. Los futures fallan con
+ * {@link org.springframework.web.server.ResponseStatusException}, igual que el servicio sincrónico:
+ * 404 si no existe, 503 si el executor está saturado (con {@code Retry-After}) y 504 si la consulta no
+ * terminó dentro de {@code app.async.dummy.timeout}.
+ */
+public interface DummyAsyncService {
+
+    /** Igual a {@link DummyService#getDummy}. */
+    CompletableFuture<Dummy> getDummy(Long id);
+
+    /** Igual a {@link DummyService#getDummyByDNI}. */
+    CompletableFuture<Dummy> getDummyByDNI(Long dni);
+
+    /**
+     * Busca varios Dummys por id en una sola tarea. Devuelve los encontrados por id, en el orden de la
+     * entrada; los inexistentes no figuran.
+     */
+    CompletableFuture<Map<Long, Dummy>> getDummies(List<Long> ids);
+
+    /** Igual a {@link DummyService#lookupDummies}. */
+    CompletableFuture<DummyLookupResult> lookupDummies(DummyLookup lookup);
+}
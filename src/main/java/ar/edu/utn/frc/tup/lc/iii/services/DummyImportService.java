@@ -0,0 +1,20 @@
+package ar.edu.utn.frc.tup.lc.iii.services;
+
+import ar.edu.utn.frc.tup.lc.iii.models.DummyExportFormat;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Importación masiva de Dummys desde un archivo NDJSON o CSV (los mismos formatos de la exportación).
+ */
+public interface DummyImportService {
+
+    /**
+     * Lee {@code in} como stream y da de alta los Dummys en lotes, con las mismas reglas que el alta
+     * individual (largo de DNI, DNI y email únicos). Guarda un checkpoint por lote confirmado: si se
+     * vuelve a llamar con el mismo {@code importId} y el mismo archivo, continúa desde el último lote.
+     */
+    DummyImportReport importDummies(String importId, DummyExportFormat format, InputStream in) throws IOException;
+}
@@ -1,10 +1,22 @@
 package ar.edu.utn.frc.tup.lc.iii.services;
 
 
+import ar.edu.utn.frc.tup.lc.iii.models.BulkItemResult;
 import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChangePage;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyExportFormat;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyFilter;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookup;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookupResult;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Capa de servicio para la lógica de negocio relacionada con {@link Dummy}.
@@ -20,18 +32,86 @@ public interface DummyService {
 
     Dummy getDummyByDNI(Long DNI);
 
+    /** Obtiene un Dummy por email o lanza excepción si no existe. */
+    Dummy getDummyByEmail(String email);
+
+    /**
+     * Búsqueda masiva por ids, DNIs y emails: una consulta IN por tipo de clave (en lotes para entradas
+     * grandes). Los valores inexistentes se informan con null en el resultado, no con excepción.
+     */
+    DummyLookupResult lookupDummies(DummyLookup lookup);
+
     /** Devuelve todos los Dummys. */
     List<Dummy> getDummyList();
 
+    /** Devuelve una página de Dummys ordenados por id (sin consulta de conteo). */
+    List<Dummy> getDummyPage(int page, int size);
+
+    /** Devuelve hasta {@code size} Dummys con id mayor a {@code afterId} (paginación por cursor). */
+    List<Dummy> getDummyPageAfter(Long afterId, int size);
+
+    /**
+     * Recorre todos los Dummys con un cursor de base de datos, entregándolos uno a uno al consumidor
+     * sin materializar la tabla en memoria.
+     */
+    void streamDummyList(Consumer<Dummy> consumer);
+
+    /**
+     * Escribe todos los Dummys en {@code out} en el formato pedido, fila por fila desde un cursor JDBC
+     * (sin entidades ni mapeos), y cierra {@code out} al terminar.
+     */
+    void exportDummies(DummyExportFormat format, OutputStream out) throws IOException;
+
     /** Crea un Dummy nuevo. */
     Dummy createDummy (Dummy dummy);
 
-    /** Actualiza un Dummy existente (reemplazo completo). */
+    /**
+     * Actualiza un Dummy existente (reemplazo completo). Si trae versión, debe coincidir con la actual.
+     */
     Dummy updateDummy (Dummy dummy);
 
+    /**
+     * Como {@link #updateDummy(Dummy)}, pero con {@code requireExisting} (por ejemplo If-Match: *) un
+     * Dummy inexistente es 412 en vez de insertarse.
+     */
+    Dummy updateDummy (Dummy dummy, boolean requireExisting);
+
+    /**
+     * Actualiza solo los campos no nulos de {@code patch} sobre el Dummy {@code id} (404 si no existe).
+     */
+    Dummy patchDummy (Long id, Dummy patch);
+
     /** Elimina un Dummy por id (404 si no existe). */
     void deleteDummy (Long id);
 
+    /** Elimina un Dummy por id si su versión coincide con {@code expectedVersion} (412 si no). */
+    void deleteDummy (Long id, Long expectedVersion);
+
+    /**
+     * Alta masiva: valida DNI y unicidad en una consulta por lote y persiste con batching JDBC.
+     * Devuelve un resultado por elemento, en el mismo orden de la entrada. Llamada dentro de una
+     * transacción, participa de ella.
+     */
+    List<BulkItemResult> createDummies(List<Dummy> dummies);
+
+    /** Modificación masiva (reemplazo completo); los ids inexistentes se informan como 404. */
+    List<BulkItemResult> updateDummies(List<Dummy> dummies);
+
+    /** Baja masiva por ids; los ids inexistentes se informan como 404. */
+    List<BulkItemResult> deleteDummies(List<Long> ids);
+
+    /**
+     * Feed de cambios: hasta {@code limit} altas, modificaciones y bajas confirmadas con seq mayor a
+     * {@code after}, en orden. {@code nextCursor} es el {@code after} de la próxima consulta.
+     */
+    DummyChangePage getChanges(long after, int limit);
+
+    /**
+     * Se completa cuando hay cambios confirmados con seq mayor a {@code after} o pasó {@code timeout},
+     * sin ocupar un hilo mientras espera (long-poll).
+     */
+    CompletableFuture<Void> awaitChanges(long after, Duration timeout);
+
     /**
      * Busca un Dummy por múltiples criterios: si viene id, busca por id;
      * si no, intenta hallar por el campo 'dummy'.
@@ -40,4 +120,10 @@ public interface DummyService {
 
     /** Devuelve una lista filtrada por los campos del Dummy. */
     List<Dummy> getDummyFiltered (Dummy dummy);
+
+    /**
+     * Busca Dummys que cumplan todos los criterios no nulos del filtro, paginado y ordenado por id.
+     * Se resuelve con una sola consulta SQL indexada.
+     */
+    Page<Dummy> searchDummies(DummyFilter filter, int page, int size);
 }
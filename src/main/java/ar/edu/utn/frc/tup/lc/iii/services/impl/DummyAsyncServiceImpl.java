@@ -0,0 +1,115 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.config.DummyLookupPool;
+import ar.edu.utn.frc.tup.lc.iii.exceptions.DummyStatusException;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookup;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookupResult;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyAsyncService;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Implementación de {@link DummyAsyncService} sobre {@link DummyService}: cada consulta es una tarea
+ * de {@link DummyLookupPool} (ver DummyAsyncConfig), así pasa por la misma caché, filtro de
+ * existencia y métricas que la versión sincrónica.
+ *
+ * - Si la cola está llena la tarea se rechaza en el momento (503 y contador {@code dummy.async.rejected}).
+ * - Si no termina en {@code app.async.dummy.timeout} el future falla con 504 (contador
+ *   {@code dummy.async.timeouts}). Una tarea que vence mientras espera en la cola ya no se ejecuta.
+ */
+@Service
+public class DummyAsyncServiceImpl implements DummyAsyncService {
+
+    /** Segundos sugeridos al cliente para reintentar cuando el executor está saturado */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyLookupPool executor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.async.dummy.timeout:PT2S}")
+    private Duration timeout;
+
+    @Override
+    public CompletableFuture<Dummy> getDummy(Long id) {
+        return submit(() -> dummyService.getDummy(id));
+    }
+
+    @Override
+    public CompletableFuture<Dummy> getDummyByDNI(Long dni) {
+        return submit(() -> dummyService.getDummyByDNI(dni));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Dummy>> getDummies(List<Long> ids) {
+        return submit(() -> {
+            Map<Long, Dummy> found = new LinkedHashMap<>();
+            dummyService.lookupDummies(new DummyLookup(ids, null, null)).getById().forEach((id, dummy) -> {
+                if (dummy != null) {
+                    found.put(id, dummy);
+                }
+            });
+            return found;
+        });
+    }
+
+    @Override
+    public CompletableFuture<DummyLookupResult> lookupDummies(DummyLookup lookup) {
+        return submit(() -> dummyService.lookupDummies(lookup));
+    }
+
+    /**
+     * Encola {@code task} y devuelve su resultado con el timeout aplicado. El future se completa con la
+     * excepción original de la tarea (sin envolver), así el handler la traduce igual que en la versión sincrónica.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                if (result.isDone()) {
+                    return; // venció mientras esperaba en la cola
+                }
+                try {
+                    result.complete(task.get());
+                } catch (RuntimeException ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            meterRegistry.counter("dummy.async.rejected").increment();
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return CompletableFuture.failedFuture(new DummyStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Servicio saturado, reintentar más tarde", headers));
+        }
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).exceptionallyCompose(ex -> {
+            if (ex instanceof TimeoutException) {
+                meterRegistry.counter("dummy.async.timeouts").increment();
+                return CompletableFuture.failedFuture(new DummyStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                        "La consulta no terminó en " + timeout.toMillis() + " ms"));
+            }
+            return CompletableFuture.failedFuture(ex);
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyChangeEntry;
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChangeType;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyChangeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Change-log (outbox) de Dummy: cada escritura agrega sus cambios a la tabla {@code dummy_change}
+ * dentro de su propia transacción, así un cambio figura en el feed si y solo si se confirmó.
+ *
+ * - El seq se asigna en memoria en orden creciente (se inicializa con el máximo de la tabla). Como las
+ *   transacciones no confirman en el orden en que tomaron su seq, el feed solo expone hasta la
+ *   {@link #watermark()}: el último seq antes del primero que sigue en una transacción abierta. Así un
+ *   lector que avanza su cursor nunca saltea un cambio que se confirma más tarde con un seq menor.
+ * - Los seq de transacciones revertidas quedan como huecos en la secuencia.
+ * - {@link #awaitAfter} permite a los lectores esperar (long-poll) sin ocupar un hilo: cada vez que
+ *   termina una transacción con cambios se completa la señal actual y se reemplaza por una nueva.
+ *
+ * La asignación de seq es local a la instancia: con varias instancias escribiendo sobre la misma base
+ * habría que reemplazarla por una secuencia de la base y otra forma de calcular la marca.
+ */
+@Component
+public class DummyChangeLog {
+
+    @Autowired
+    private DummyChangeRepository changeRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Seq asignados a transacciones que todavía no terminaron */
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    /** Último seq asignado; -1 hasta leer el máximo de la tabla */
+    private long lastSeq = -1;
+
+    private final AtomicReference<CompletableFuture<Void>> signal = new AtomicReference<>(new CompletableFuture<>());
+
+    /**
+     * Registra el cambio con una foto de {@code entity}. Debe llamarse dentro de la transacción que
+     * escribe el cambio, después del flush si es una modificación (para informar la versión nueva).
+     */
+    public void record(DummyChangeType type, DummyEntitie entity) {
+        DummyChangeEntry entry = new DummyChangeEntry(nextSeq(), type.name(), entity.getId(), entity.getVersion(),
+                entity.getDummy(), entity.getDni(), entity.getEmail(), entity.getTel(), entity.getFecha_Nac(),
+                LocalDateTime.now());
+        entityManager.persist(entry);
+    }
+
+    /** Registra la baja de {@code id} sin foto del registro (bajas masivas por id). */
+    public void recordDelete(Long id) {
+        DummyChangeEntry entry = new DummyChangeEntry(nextSeq(), DummyChangeType.DELETE.name(), id, null,
+                null, null, null, null, null, LocalDateTime.now());
+        entityManager.persist(entry);
+    }
+
+    /**
+     * Asigna el próximo seq y lo asocia a la transacción actual, que lo libera al terminar
+     * (confirmada o revertida).
+     */
+    private long nextSeq() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("El change-log de Dummy requiere una transacción activa");
+        }
+        long seq;
+        lock.lock();
+        try {
+            seq = lastSeq() + 1;
+            lastSeq = seq;
+            inFlight.add(seq);
+        } finally {
+            lock.unlock();
+        }
+        transactionSeqs().add(seq);
+        return seq;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> transactionSeqs() {
+        List<Long> seqs = (List<Long>) TransactionSynchronizationManager.getResource(this);
+        if (seqs == null) {
+            List<Long> bound = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DummyChangeLog.this);
+                    release(bound);
+                }
+            });
+            seqs = bound;
+        }
+        return seqs;
+    }
+
+    private void release(List<Long> seqs) {
+        lock.lock();
+        try {
+            seqs.forEach(inFlight::remove);
+        } finally {
+            lock.unlock();
+        }
+        signal.getAndSet(new CompletableFuture<>()).complete(null);
+    }
+
+    /**
+     * Último seq hasta el cual el feed está completo: todo seq menor o igual está confirmado o no va a
+     * aparecer nunca.
+     */
+    public long watermark() {
+        lock.lock();
+        try {
+            long last = lastSeq();
+            return inFlight.isEmpty() ? last : inFlight.first() - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Se completa cuando la marca supera {@code after} o se cumple {@code timeout}, lo que ocurra primero.
+     * Puede completarse sin cambios nuevos visibles (por ejemplo si la transacción se revirtió).
+     */
+    public CompletableFuture<Void> awaitAfter(long after, Duration timeout) {
+        // La señal se toma antes de leer la marca: si un cambio termina en el medio, la señal ya está completa
+        CompletableFuture<Void> next = signal.get();
+        if (watermark() > after) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return next.copy().completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Debe llamarse con {@link #lock} tomado. */
+    private long lastSeq() {
+        if (lastSeq < 0) {
+            Long max = changeRepository.findMaxSeq();
+            lastSeq = max == null ? 0 : max;
+        }
+        return lastSeq;
+    }
+}
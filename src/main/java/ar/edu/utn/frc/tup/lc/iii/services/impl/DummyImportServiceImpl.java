@@ -0,0 +1,197 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyDto;
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyImportCheckpoint;
+import ar.edu.utn.frc.tup.lc.iii.exceptions.DummyStatusException;
+import ar.edu.utn.frc.tup.lc.iii.mappers.DummyMapper;
+import ar.edu.utn.frc.tup.lc.iii.models.BulkItemResult;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyExportFormat;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyImportReport;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyImportCheckpointRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyImportService;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementación de la importación masiva.
+ *
+ * - Lectura en streaming con Jackson (MappingIterator): en memoria solo está el lote actual de
+ *   {@code app.import.batch-size} registros. No se lee el siguiente lote hasta confirmar el anterior,
+ *   así un cliente más rápido que la base queda frenado por TCP (contrapresión) y no llena la memoria.
+ * - Cada lote se da de alta con {@link DummyService#createDummies}: mismas validaciones que el alta
+ *   individual, una consulta de duplicados por lote y batching JDBC.
+ * - Cada lote y el avance del checkpoint se confirman en la misma transacción: o quedan los dos o
+ *   ninguno. Si la importación se corta, al reenviar el archivo con el mismo id se saltean (solo se
+ *   parsean) los registros ya procesados y el lote interrumpido se procesa de nuevo desde cero.
+ * - Si otro escritor inserta un DNI/email del lote mientras tanto, la transacción se deshace y el lote
+ *   se reintenta: la nueva validación ya lo ve y lo informa como rechazo.
+ * - Un registro con formato inválido corta la importación con 400 indicando el número de registro;
+ *   corregido el archivo, se reanuda desde el último checkpoint.
+ */
+@Service
+public class DummyImportServiceImpl implements DummyImportService {
+
+    /** Intentos de un lote que choca con escritores concurrentes antes de cortar la importación */
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private DummyMapper dummyMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /** Registros por lote (una transacción por lote) */
+    @Value("${app.import.batch-size:1000}")
+    private int batchSize;
+
+    /** Máximo de rechazos que se detallan en el reporte (los demás solo se cuentan) */
+    @Value("${app.import.max-rejected-details:1000}")
+    private int maxRejectedDetails;
+
+    /** Importaciones en curso: un mismo id no puede correr dos veces a la vez */
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    private final ObjectReader csvReader = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .build()
+            .readerFor(DummyDto.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    @Override
+    public DummyImportReport importDummies(String importId, DummyExportFormat format, InputStream in) throws IOException {
+        if (!running.add(importId)) {
+            throw new DummyStatusException(HttpStatus.CONFLICT, "La importación " + importId + " ya está en curso");
+        }
+        try {
+            return runImport(importId, format, in);
+        } finally {
+            running.remove(importId);
+        }
+    }
+
+    private DummyImportReport runImport(String importId, DummyExportFormat format, InputStream in) throws IOException {
+        DummyImportCheckpoint checkpoint = checkpointRepository.findById(importId)
+                .orElseGet(() -> new DummyImportCheckpoint(importId, 0, 0, 0, false, null));
+        long resumedFrom = checkpoint.getRecords();
+        List<BulkItemResult> rejectedRows = new ArrayList<>();
+        long start = System.nanoTime();
+        long record = 0;
+
+        ObjectReader reader = format == DummyExportFormat.CSV ? csvReader : objectMapper.readerFor(DummyDto.class);
+        try (MappingIterator<DummyDto> rows = reader.readValues(in)) {
+            List<Dummy> batch = new ArrayList<>(batchSize);
+            while (rows.hasNextValue()) {
+                DummyDto row = rows.nextValue();
+                record++;
+                if (record <= resumedFrom) {
+                    continue;
+                }
+                batch.add(dummyMapper.toModel(row));
+                if (batch.size() == batchSize) {
+                    checkpoint = writeBatch(checkpoint, batch, rejectedRows);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                checkpoint = writeBatch(checkpoint, batch, rejectedRows);
+            }
+        } catch (JsonProcessingException ex) {
+            throw new DummyStatusException(HttpStatus.BAD_REQUEST, "Registro " + (record + 1) + " inválido: "
+                    + ex.getOriginalMessage() + ". La importación " + importId + " se puede reanudar desde el registro "
+                    + (checkpoint.getRecords() + 1));
+        }
+
+        checkpoint.setCompleted(true);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpoint = checkpointRepository.save(checkpoint);
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long processed = checkpoint.getRecords() - resumedFrom;
+        return new DummyImportReport(importId, resumedFrom, processed, checkpoint.getAccepted(),
+                checkpoint.getRejected(), true, seconds, seconds == 0 ? 0 : processed / seconds, rejectedRows);
+    }
+
+    /** Checkpoint confirmado con los rechazos de su lote. */
+    private record BatchOutcome(DummyImportCheckpoint checkpoint, List<BulkItemResult> rejectedRows) {
+    }
+
+    /**
+     * Da de alta un lote y guarda el checkpoint con el avance en una sola transacción. Recién confirmada
+     * se acumulan sus rechazos (numerados por registro del archivo, desde 1); si se deshace por un
+     * conflicto de unicidad con otro escritor, el lote se vuelve a intentar.
+     */
+    private DummyImportCheckpoint writeBatch(DummyImportCheckpoint checkpoint, List<Dummy> batch,
+                                             List<BulkItemResult> rejectedRows) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                BatchOutcome outcome = transactionTemplate.execute(status -> saveBatch(checkpoint, batch,
+                        maxRejectedDetails - rejectedRows.size()));
+                rejectedRows.addAll(outcome.rejectedRows());
+                return outcome.checkpoint();
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt == MAX_BATCH_ATTEMPTS) {
+                    throw new DummyStatusException(HttpStatus.CONFLICT, "El lote desde el registro "
+                            + (checkpoint.getRecords() + 1) + " choca con altas concurrentes. La importación "
+                            + checkpoint.getImportId() + " se puede reanudar desde ese registro");
+                }
+            }
+        }
+    }
+
+    /**
+     * Cuerpo de la transacción de un lote. No modifica {@code previous}: si la transacción se deshace,
+     * el checkpoint en memoria sigue igual al de la base.
+     */
+    private BatchOutcome saveBatch(DummyImportCheckpoint previous, List<Dummy> batch, int maxDetails) {
+        DummyImportCheckpoint checkpoint = new DummyImportCheckpoint(previous.getImportId(), previous.getRecords(),
+                previous.getAccepted(), previous.getRejected(), false, null);
+        List<BulkItemResult> rejectedRows = new ArrayList<>();
+        long firstRecord = checkpoint.getRecords() + 1;
+        for (BulkItemResult result : dummyService.createDummies(batch)) {
+            if (result.getStatus() == HttpStatus.OK.value()) {
+                checkpoint.setAccepted(checkpoint.getAccepted() + 1);
+            } else {
+                checkpoint.setRejected(checkpoint.getRejected() + 1);
+                if (rejectedRows.size() < maxDetails) {
+                    rejectedRows.add(new BulkItemResult((int) (firstRecord + result.getIndex()), null,
+                            result.getStatus(), result.getMessage()));
+                }
+            }
+        }
+        checkpoint.setRecords(checkpoint.getRecords() + batch.size());
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        return new BatchOutcome(checkpointRepository.save(checkpoint), rejectedRows);
+    }
+}
@@ -1,25 +1,83 @@
 package ar.edu.utn.frc.tup.lc.iii.services.impl;
 
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyCache;
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyExistenceFilter;
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyChangeEntry;
 import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.exceptions.DummyStatusException;
+import ar.edu.utn.frc.tup.lc.iii.exceptions.GlobalExceptionHandler;
+import ar.edu.utn.frc.tup.lc.iii.mappers.DummyMapper;
+import ar.edu.utn.frc.tup.lc.iii.models.BulkItemResult;
 import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChange;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChangePage;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChangeType;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyExportFormat;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyFilter;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookup;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookupResult;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyChangeRepository;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyExportRepository;
 import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
 import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
-import org.modelmapper.ModelMapper;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Implementación de la capa de servicio para {@link Dummy}.
  *
  * - Orquesta el acceso al repositorio y realiza el mapeo entre Entity y Model.
  * - Lanza excepciones con estados HTTP adecuados para que el Controller/Handler las traduzca.
+ * - Las lecturas por id, DNI y email pasan por {@link DummyCache}; las altas, modificaciones y bajas
+ *   la invalidan después de confirmar el cambio.
+ * - {@link DummyExistenceFilter} responde sin consultar la base los DNI/emails que seguro no existen
+ *   (búsquedas por DNI/email y verificación de duplicados del alta masiva). Toda escritura registra
+ *   sus DNI y emails en el filtro antes de llegar a la base.
+ * - Toda alta, modificación y baja se registra en {@link DummyChangeLog} dentro de la misma transacción,
+ *   que alimenta el feed de cambios ({@link #getChanges}).
  */
 @Service
 public class DummyServiceImpl implements DummyService {
@@ -28,66 +86,230 @@ public class DummyServiceImpl implements DummyService {
     private DummyRepository dummyRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private DummyMapper dummyMapper;
+
+    @Autowired
+    private DummyCache dummyCache;
+
+    @Autowired
+    private DummyExistenceFilter existenceFilter;
+
+    @Autowired
+    private DummyExportRepository dummyExportRepository;
+
+    @Autowired
+    private DummyChangeLog changeLog;
+
+    @Autowired
+    private DummyChangeRepository changeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Esquema de la exportación CSV: mismas columnas y nombres que DummyDto, con encabezado */
+    private static final CsvSchema EXPORT_CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id").addColumn("dummy").addColumn("dni").addColumn("email")
+            .addColumn("tel").addColumn("fecha_Nac").addColumn("version")
+            .setUseHeader(true)
+            .build();
+
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** Cantidad de elementos por transacción en las operaciones masivas */
+    @Value("${app.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
 
     /**
      * Obtiene un Dummy por id. Si no existe, lanza 404 (EntityNotFoundException -> 404 por Handler).
+     * Se resuelve primero en {@link DummyCache}.
      */
     @Override
     public Dummy getDummy(Long id) {
-        DummyEntitie ent = dummyRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "El dummy id "+ id +" no se encuentra"));
-        return modelMapper.map(ent, Dummy.class);
+        Dummy dummy = dummyCache.getById(id, this::loadById);
+        if (dummy == null) {
+            throw new DummyStatusException(HttpStatus.NOT_FOUND, "El dummy id "+ id +" no se encuentra");
+        }
+        return dummy;
     }
 
     @Override
     public Dummy getDummyByDNI(Long dni) {
-        DummyEntitie dummyEntitie = getDummyEntitieByDni(dni);
-        if (dummyEntitie == null){
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "El dummy DNI "+ dni +" no se encuentra");
+        Dummy dummy = existenceFilter.mightContainDni(dni)
+                ? dummyCache.getByDni(dni, this::loadById, this::loadByDni)
+                : null;
+        if (dummy == null){
+            throw new DummyStatusException(HttpStatus.NOT_FOUND, "El dummy DNI "+ dni +" no se encuentra");
         }
         else {
-            return modelMapper.map(dummyEntitie, Dummy.class);
+            return dummy;
         }
     }
-    
-    
-
-    private DummyEntitie getDummyEntitieByDni(Long dni) {
-        DummyEntitie dummyEntitie = null;
-        List<DummyEntitie> dummyEntities = dummyRepository.findAll();
 
-        for (DummyEntitie dummyEntity : dummyEntities) {
-            if (Objects.equals(dummyEntity.getDni(), dni)) {
-                dummyEntitie = dummyEntity;
-            }
+    @Override
+    public Dummy getDummyByEmail(String email) {
+        Dummy dummy = existenceFilter.mightContainEmail(email)
+                ? dummyCache.getByEmail(email, this::loadById, this::loadByEmail)
+                : null;
+        if (dummy == null) {
+            throw new DummyStatusException(HttpStatus.NOT_FOUND, "El dummy email "+ email +" no se encuentra");
         }
-        return dummyEntitie;
+        return dummy;
     }
 
-    private DummyEntitie getDummyEntitieByMail(String mail) {
-        DummyEntitie dummyEntitie = null;
-        List<DummyEntitie> dummyEntities = dummyRepository.findAll();
+    /**
+     * Cargadores usados por la caché ante un fallo: devuelven null si no existe. Leen con proyección
+     * directa al modelo (sin entidades administradas).
+     */
+    private Dummy loadById(Long id) {
+        return dummyRepository.findModelById(id).orElse(null);
+    }
 
-        for (DummyEntitie dummyEntity : dummyEntities) {
-            if (Objects.equals(dummyEntity.getEmail(), mail)) {
-                dummyEntitie = dummyEntity;
+    private Dummy loadByDni(Long dni) {
+        return dummyRepository.findModelByDni(dni).orElse(null);
+    }
+
+    private Dummy loadByEmail(String email) {
+        return dummyRepository.findModelByEmail(email).orElse(null);
+    }
+
+    /**
+     * Búsqueda masiva en una transacción de solo lectura, con proyección directa al modelo.
+     * Cada tipo de clave se resuelve con consultas IN de hasta {@code app.bulk.chunk-size} valores; los
+     * DNI y emails que el filtro de existencia descarta no se consultan.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DummyLookupResult lookupDummies(DummyLookup lookup) {
+        Map<Long, Dummy> byId = lookupChunked(lookup.getIds(), id -> true,
+                dummyRepository::findModelsByIdIn, Dummy::getId);
+        Map<Long, Dummy> byDni = lookupChunked(lookup.getDnis(), existenceFilter::mightContainDni,
+                dummyRepository::findModelsByDniIn, Dummy::getDni);
+        Map<String, Dummy> byEmail = lookupChunked(lookup.getEmails(), existenceFilter::mightContainEmail,
+                dummyRepository::findModelsByEmailIn, Dummy::getEmail);
+        return new DummyLookupResult(byId, byDni, byEmail);
+    }
+
+    /**
+     * Arma el mapa clave -> Dummy (null si no existe) en el orden de {@code keys}, consultando por lotes
+     * solo las claves que {@code mightExist} no descarta.
+     */
+    private <K> Map<K, Dummy> lookupChunked(List<K> keys, Predicate<K> mightExist,
+                                            Function<List<K>, List<Dummy>> query, Function<Dummy, K> keyOf) {
+        Map<K, Dummy> result = new LinkedHashMap<>();
+        if (keys == null) {
+            return result;
+        }
+        List<K> pending = new ArrayList<>();
+        for (K key : keys) {
+            if (key != null && !result.containsKey(key)) {
+                result.put(key, null);
+                if (mightExist.test(key)) {
+                    pending.add(key);
+                }
             }
         }
-        return dummyEntitie;
+        for (int from = 0; from < pending.size(); from += bulkChunkSize) {
+            for (Dummy dummy : query.apply(pending.subList(from, Math.min(from + bulkChunkSize, pending.size())))) {
+                result.put(keyOf.apply(dummy), dummy);
+            }
+        }
+        return result;
     }
 
     /**
-     * Devuelve todos los Dummy mapeados a modelo de dominio.
+     * Devuelve todos los Dummy, proyectados directo al modelo de dominio.
      */
     @Override
     public List<Dummy> getDummyList() {
-        List<Dummy> dummyList = new ArrayList<>();
-        List<DummyEntitie> dummyEntities = dummyRepository.findAll();
-        for (DummyEntitie dummyEntity : dummyEntities) {
-            dummyList.add(modelMapper.map(dummyEntity, Dummy.class));
+        return dummyRepository.findAllModels();
+    }
+
+    @Override
+    public List<Dummy> getDummyPage(int page, int size) {
+        return dummyRepository.findModels(PageRequest.of(page, size, Sort.by("id"))).getContent();
+    }
+
+    @Override
+    public List<Dummy> getDummyPageAfter(Long afterId, int size) {
+        return dummyRepository.findModelsAfter(afterId, PageRequest.of(0, size, Sort.by("id")));
+    }
+
+    /**
+     * Recorre la tabla con un cursor dentro de una transacción de solo lectura. Las filas se proyectan
+     * al modelo sin pasar por entidades, así el contexto de persistencia no crece y la memoria se
+     * mantiene constante.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamDummyList(Consumer<Dummy> consumer) {
+        try (Stream<Dummy> dummies = dummyRepository.streamAllModels()) {
+            dummies.forEach(consumer);
+        }
+    }
+
+    /**
+     * Exportación completa: cada fila del cursor se escribe directo con el generador de Jackson
+     * (JSON del ObjectMapper configurado o CSV), sin armar entidades, modelos ni DTOs. El generador
+     * tiene su propio buffer y escribe a {@code out} a medida que se llena.
+     */
+    @Override
+    public void exportDummies(DummyExportFormat format, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createExportGenerator(format, out)) {
+            dummyExportRepository.forEachRow(rs -> {
+                try {
+                    writeExportRow(generator, rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (format == DummyExportFormat.NDJSON && generator.getOutputContext().getEntryCount() > 0) {
+                generator.writeRaw('\n');
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private JsonGenerator createExportGenerator(DummyExportFormat format, OutputStream out) throws IOException {
+        if (format == DummyExportFormat.CSV) {
+            JsonGenerator generator = csvMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            generator.setSchema(EXPORT_CSV_SCHEMA);
+            return generator;
+        }
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        // NDJSON: los objetos de nivel raíz se separan con salto de línea
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        return generator;
+    }
+
+    /** Escribe una fila en el orden de {@link DummyExportRepository#COLUMNS}. */
+    private static void writeExportRow(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+        generator.writeStartObject();
+        writeLongField(generator, "id", rs, 1);
+        generator.writeStringField("dummy", rs.getString(2));
+        writeLongField(generator, "dni", rs, 3);
+        generator.writeStringField("email", rs.getString(4));
+        writeLongField(generator, "tel", rs, 5);
+        LocalDate fechaNac = rs.getObject(6, LocalDate.class);
+        generator.writeStringField("fecha_Nac", fechaNac == null ? null : fechaNac.toString());
+        writeLongField(generator, "version", rs, 7);
+        generator.writeEndObject();
+    }
+
+    private static void writeLongField(JsonGenerator generator, String name, ResultSet rs, int column)
+            throws SQLException, IOException {
+        long value = rs.getLong(column);
+        if (rs.wasNull()) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
         }
-        return dummyList;
     }
 
     /**
@@ -95,39 +317,172 @@ public class DummyServiceImpl implements DummyService {
      */
     @Override
     public Dummy createDummy(Dummy dummy) {
-        if (dummy.getDni() < 100000000) {
-            return VerifyDummyExist(dummy);
+        DummyStatusException invalid = dniViolation(dummy);
+        if (invalid != null) {
+            throw invalid;
+        }
+        return existenceFilter.adding(dummy.getDni(), dummy.getEmail(), () -> VerifyDummyExist(dummy));
+    }
+
+    /** Regla de negocio: el DNI debe tener como máximo 8 dígitos. */
+    private static boolean isDniTooLong(Dummy dummy) {
+        return dummy.getDni() >= 100000000;
+    }
 
+    /**
+     * Validación del DNI en altas y reemplazos (individuales y masivos): obligatorio y de hasta 8 dígitos.
+     * Devuelve el error a informar, o null si es válido.
+     */
+    private static DummyStatusException dniViolation(Dummy dummy) {
+        if (dummy.getDni() == null) {
+            return new DummyStatusException(HttpStatus.BAD_REQUEST, "El dummy no tiene DNI");
         }
-        else {
-            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "El dummy tiene el DNI demasiado largo");
+        if (isDniTooLong(dummy)) {
+            return new DummyStatusException(HttpStatus.NOT_ACCEPTABLE, "El dummy tiene el DNI demasiado largo");
         }
+        return null;
     }
 
+    /**
+     * Inserta directamente y deja que las restricciones únicas de la base validen DNI y email.
+     * Es un único viaje a la base y no hay carrera entre la verificación y el insert aunque
+     * haya muchos escritores concurrentes. El registro del change-log va en la misma transacción.
+     */
     private Dummy VerifyDummyExist(Dummy dummy) {
-        if (getDummyEntitieByDni(dummy.getDni())== null) {
-            if (getDummyEntitieByMail(dummy.getEmail())==null) {
-                DummyEntitie dummyEntitie = modelMapper.map(dummy, DummyEntitie.class);
+        DummyEntitie dummyEntitie = dummyMapper.toEntity(dummy);
+        // En el alta el id lo genera la secuencia y la versión la inicializa Hibernate
+        dummyEntitie.setId(null);
+        dummyEntitie.setVersion(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                dummyRepository.saveAndFlush(dummyEntitie);
+                changeLog.record(DummyChangeType.CREATE, dummyEntitie);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            if (isViolationOf(ex, DummyEntitie.UK_DNI)) {
+                throw new DummyStatusException(HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con DNI " + dummy.getDni());
+            }
+            if (isViolationOf(ex, DummyEntitie.UK_EMAIL)) {
+                throw new DummyStatusException(HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con el mail " + dummy.getEmail());
+            }
+            throw ex;
+        }
+        // La entidad ya tiene el id generado: solo se completa el modelo recibido
+        dummy.setId(dummyEntitie.getId());
+        dummy.setVersion(dummyEntitie.getVersion());
+        dummyCache.evict(dummy);
+        return dummy;
+    }
+
+    /**
+     * Indica si la excepción fue causada por la restricción indicada. El nombre se busca en el
+     * mensaje del driver porque H2 lo informa como parte del nombre del índice.
+     */
+    static boolean isViolationOf(DataIntegrityViolationException ex, String constraintName) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(constraintName);
+    }
+
+    /**
+     * Actualiza un Dummy existente. Aquí se hace un reemplazo completo; para updates parciales
+     * usar {@link #patchDummy}. Si el id no existe se inserta (upsert), como hacía save().
+     *
+     * Si {@code dummy.getVersion()} viene informado se exige que coincida con la versión actual (412).
+     * Si otro request modifica el registro entre la lectura y el UPDATE, el bloqueo optimista lanza
+     * OptimisticLockingFailureException (409 en el handler).
+     */
+    @Override
+    public Dummy updateDummy(Dummy dummy) {
+        return updateDummy(dummy, false);
+    }
+
+    /**
+     * Reemplazo completo con upsert solo para los pedidos incondicionales: si vino una versión esperada o
+     * {@code requireExisting} y el Dummy no existe, la condición no se cumple (412) y no se inserta nada.
+     */
+    @Override
+    public Dummy updateDummy(Dummy dummy, boolean requireExisting) {
+        boolean conditional = requireExisting || dummy.getVersion() != null;
+        DummyStatusException invalid = dniViolation(dummy);
+        if (invalid != null) {
+            throw invalid;
+        }
+        Dummy updated = existenceFilter.adding(dummy.getDni(), dummy.getEmail(), () -> transactionTemplate.execute(status -> {
+            DummyEntitie dummyEntitie = dummy.getId() == null ? null : dummyRepository.findById(dummy.getId()).orElse(null);
+            DummyChangeType type = dummyEntitie == null ? DummyChangeType.CREATE : DummyChangeType.UPDATE;
+            if (dummyEntitie == null && conditional) {
+                throw new DummyStatusException(HttpStatus.PRECONDITION_FAILED, "El dummy id " + dummy.getId()
+                        + " no existe; no se puede verificar la versión esperada");
+            }
+            if (dummyEntitie == null) {
+                dummyEntitie = dummyMapper.toEntity(dummy);
+                dummyEntitie.setId(null);
+                dummyEntitie.setVersion(null);
                 dummyRepository.save(dummyEntitie);
-                return modelMapper.map(dummyEntitie, Dummy.class);
+            } else {
+                checkVersion(dummyEntitie, dummy.getVersion());
+                dummyMapper.replace(dummy, dummyEntitie);
             }
-            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con el mail " + dummy.getEmail());
+            dummyRepository.flush();
+            changeLog.record(type, dummyEntitie);
+            return dummyMapper.toModel(dummyEntitie);
+        }));
+        dummyCache.evict(updated.getId());
+        return updated;
+    }
 
+    /**
+     * Verifica la versión esperada por el cliente (If-Match o campo version). null = sin verificar.
+     */
+    private static void checkVersion(DummyEntitie dummyEntitie, Long expectedVersion) {
+        DummyStatusException conflict = versionConflict(dummyEntitie, expectedVersion);
+        if (conflict != null) {
+            throw conflict;
         }
-        throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con DNI " + dummy.getDni());
+    }
+
+    /** Error 412 si la versión esperada no coincide con la actual; null si coincide o no se informó. */
+    private static DummyStatusException versionConflict(DummyEntitie dummyEntitie, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(dummyEntitie.getVersion())) {
+            return new DummyStatusException(HttpStatus.PRECONDITION_FAILED, "El dummy id " + dummyEntitie.getId()
+                    + " fue modificado; versión actual " + dummyEntitie.getVersion());
+        }
+        return null;
     }
 
     /**
-     * Actualiza un Dummy existente. Aquí se hace un reemplazo completo; podría mejorarse
-     * validando existencia previa y usando un "mergerMapper" para updates parciales.
+     * Actualización parcial: copia sobre la entidad solo los campos no nulos de {@code patch}
+     * (misma semántica que el bean "mergerMapper") y deja que el dirty checking escriba un único
+     * UPDATE con las columnas modificadas (la entidad es {@code @DynamicUpdate}).
+     * Si {@code patch.getVersion()} viene informado se exige que coincida con la versión actual (412).
+     * La caché se invalida después de confirmar la transacción.
      */
     @Override
-    public Dummy updateDummy(Dummy dummy) {
-        // save() hace upsert: si existe id, actualiza; si no, inserta.
-        DummyEntitie dummyEntitie = dummyRepository.save(modelMapper.map(dummy, DummyEntitie.class));
-        // Segunda llamada a save es redundante, pero se mantiene para no cambiar comportamiento observable.
-        dummyRepository.save(dummyEntitie);
-        return modelMapper.map(dummyEntitie, Dummy.class);
+    public Dummy patchDummy(Long id, Dummy patch) {
+        if (patch.getDni() != null && isDniTooLong(patch)) {
+            throw new DummyStatusException(HttpStatus.NOT_ACCEPTABLE, "El dummy tiene el DNI demasiado largo");
+        }
+        Dummy patched = existenceFilter.adding(patch.getDni(), patch.getEmail(), () -> transactionTemplate.execute(status -> {
+            DummyEntitie dummyEntitie = dummyRepository.findById(id)
+                    .orElseThrow(() -> new DummyStatusException(HttpStatus.NOT_FOUND, "El dummy id " + id + " no existe"));
+            checkVersion(dummyEntitie, patch.getVersion());
+            dummyMapper.merge(patch, dummyEntitie);
+            try {
+                dummyRepository.flush();
+            } catch (DataIntegrityViolationException ex) {
+                if (isViolationOf(ex, DummyEntitie.UK_DNI)) {
+                    throw new DummyStatusException(HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con DNI " + patch.getDni());
+                }
+                if (isViolationOf(ex, DummyEntitie.UK_EMAIL)) {
+                    throw new DummyStatusException(HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con el mail " + patch.getEmail());
+                }
+                throw ex;
+            }
+            changeLog.record(DummyChangeType.UPDATE, dummyEntitie);
+            return dummyMapper.toModel(dummyEntitie);
+        }));
+        dummyCache.evict(id);
+        return patched;
     }
 
     /**
@@ -135,43 +490,317 @@ public class DummyServiceImpl implements DummyService {
      */
     @Override
     public void deleteDummy(Long id) {
-        DummyEntitie dummy = dummyRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "El dummy no existe"));
-        dummyRepository.delete(dummy);
+        deleteDummy(id, null);
     }
 
     /**
-     * Búsqueda flexible: si viene id, busca por id; si no, intenta encontrar por el campo 'dummy'.
-     * Si no se encuentra, lanza 404 con un mensaje claro.
+     * Elimina un Dummy por id verificando la versión esperada (412 si no coincide, null = sin verificar).
      */
     @Override
-    public Dummy getByAllDummy(Dummy dummy) {
-        Long id =  dummy.getId();
-        int aux = 0; // contador de elementos que no coinciden (usado para detectar no encontrado)
-        if (id == null){
-            List<DummyEntitie>  dummyEntities = dummyRepository.findAll();
-            DummyEntitie dummyEntitie;
-            for (DummyEntitie dummyEntity : dummyEntities) {
-                dummyEntitie = dummyEntity;
-                if (Objects.equals(dummyEntitie.getDummy(), dummy.getDummy())) {
-                    // Asignamos el id encontrado al modelo recibido, para devolverlo completo
-                    dummy.setId(dummyEntitie.getId());
-                } else {
-                    aux++;
+    public void deleteDummy(Long id, Long expectedVersion) {
+        transactionTemplate.executeWithoutResult(status -> {
+            DummyEntitie dummy = dummyRepository.findById(id)
+                    .orElseThrow(() -> new DummyStatusException(HttpStatus.NOT_FOUND, "El dummy no existe"));
+            checkVersion(dummy, expectedVersion);
+            dummyRepository.delete(dummy);
+            dummyRepository.flush();
+            changeLog.record(DummyChangeType.DELETE, dummy);
+        });
+        dummyCache.evict(id);
+    }
+
+    /**
+     * Alta masiva por lotes de {@code app.bulk.chunk-size} elementos. Por cada lote:
+     * valida la regla de DNI y los duplicados dentro del lote en memoria, valida la unicidad contra la
+     * base con una sola consulta y persiste lo aceptado en una transacción con batching JDBC.
+     * Si otro escritor inserta un DNI/email del lote en el medio, el lote se reintenta elemento a elemento;
+     * salvo que se llame dentro de una transacción: esa ya quedó marcada para rollback, así que la
+     * excepción se propaga y decide quien la abrió.
+     */
+    @Override
+    public List<BulkItemResult> createDummies(List<Dummy> dummies) {
+        BulkItemResult[] results = new BulkItemResult[dummies.size()];
+        for (int from = 0; from < dummies.size(); from += bulkChunkSize) {
+            createChunk(dummies, from, Math.min(from + bulkChunkSize, dummies.size()), results);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void createChunk(List<Dummy> dummies, int from, int to, BulkItemResult[] results) {
+        Set<Long> dnis = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Dummy dummy = dummies.get(i);
+            DummyStatusException invalid = dniViolation(dummy);
+            if (invalid != null) {
+                results[i] = rejected(i, invalid.getStatusCode(), invalid.getReason());
+            } else if (dnis.contains(dummy.getDni())) {
+                results[i] = rejected(i, HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con DNI " + dummy.getDni());
+            } else if (dummy.getEmail() != null && emails.contains(dummy.getEmail())) {
+                results[i] = rejected(i, HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con el mail " + dummy.getEmail());
+            } else {
+                dnis.add(dummy.getDni());
+                if (dummy.getEmail() != null) {
+                    emails.add(dummy.getEmail());
+                }
+                accepted.add(i);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // Una sola consulta para saber qué DNI/emails del lote ya existen. Solo se consultan los que el
+        // filtro no descarta; si descarta todos (el caso normal: personas nuevas) no se consulta la base.
+        dnis.removeIf(dni -> !existenceFilter.mightContainDni(dni));
+        emails.removeIf(email -> !existenceFilter.mightContainEmail(email));
+        Set<Long> existingDnis = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        if (!dnis.isEmpty() || !emails.isEmpty()) {
+            for (DummyEntitie existing : dummyRepository.findByDniInOrEmailIn(dnis, emails)) {
+                existingDnis.add(existing.getDni());
+                existingEmails.add(existing.getEmail());
+            }
+        }
+
+        List<Integer> indexes = new ArrayList<>(accepted.size());
+        List<DummyEntitie> entities = new ArrayList<>(accepted.size());
+        for (int i : accepted) {
+            Dummy dummy = dummies.get(i);
+            if (existingDnis.contains(dummy.getDni())) {
+                results[i] = rejected(i, HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con DNI " + dummy.getDni());
+            } else if (dummy.getEmail() != null && existingEmails.contains(dummy.getEmail())) {
+                results[i] = rejected(i, HttpStatus.NOT_ACCEPTABLE, "Ya existe un Dummy con el mail " + dummy.getEmail());
+            } else {
+                DummyEntitie entity = dummyMapper.toEntity(dummy);
+                entity.setId(null); // en el alta el id siempre lo genera la secuencia
+                entity.setVersion(null);
+                indexes.add(i);
+                entities.add(entity);
+            }
+        }
+
+        List<Long> newDnis = new ArrayList<>(entities.size());
+        List<String> newEmails = new ArrayList<>(entities.size());
+        for (DummyEntitie entity : entities) {
+            newDnis.add(entity.getDni());
+            newEmails.add(entity.getEmail());
+        }
+        try {
+            existenceFilter.adding(newDnis, newEmails, () -> transactionTemplate.execute(status -> {
+                dummyRepository.saveAll(entities);
+                dummyRepository.flush();
+                for (DummyEntitie entity : entities) {
+                    changeLog.record(DummyChangeType.CREATE, entity);
                 }
+                dummyRepository.flush();
+                entityManager.clear();
+                return null;
+            }));
+            for (int k = 0; k < indexes.size(); k++) {
+                results[indexes.get(k)] = new BulkItemResult(indexes.get(k), entities.get(k).getId(), HttpStatus.OK.value(), null);
+            }
+        } catch (DataIntegrityViolationException ex) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw ex;
+            }
+            for (int i : indexes) {
+                results[i] = createOne(i, dummies.get(i));
             }
-            if (aux == dummyEntities.size()) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "El dummy con dummy '" + dummy.getDummy() + "' no existe");
+        }
+    }
+
+    private BulkItemResult createOne(int index, Dummy dummy) {
+        try {
+            return new BulkItemResult(index, createDummy(dummy).getId(), HttpStatus.OK.value(), null);
+        } catch (ResponseStatusException ex) {
+            return rejected(index, ex.getStatusCode(), ex.getReason());
+        }
+    }
+
+    /**
+     * Modificación masiva por lotes: carga las entidades del lote con una consulta, reemplaza sus
+     * campos y deja que el flush agrupe los UPDATE. Cada elemento pasa las mismas validaciones que
+     * {@link #updateDummy} (DNI y versión esperada, 412 si no coincide) y las que fallan se informan en
+     * su resultado sin frenar al resto. Si el lote viola una restricción única o otro request modificó
+     * alguno de sus Dummys entre la lectura y el flush, se reintenta elemento a elemento para informar cuál falló.
+     */
+    @Override
+    public List<BulkItemResult> updateDummies(List<Dummy> dummies) {
+        BulkItemResult[] results = new BulkItemResult[dummies.size()];
+        for (int from = 0; from < dummies.size(); from += bulkChunkSize) {
+            updateChunk(dummies, from, Math.min(from + bulkChunkSize, dummies.size()), results);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void updateChunk(List<Dummy> dummies, int from, int to, BulkItemResult[] results) {
+        Set<Long> ids = new HashSet<>();
+        for (int i = from; i < to; i++) {
+            Long id = dummies.get(i).getId();
+            DummyStatusException invalid = dniViolation(dummies.get(i));
+            if (id == null) {
+                results[i] = rejected(i, HttpStatus.BAD_REQUEST, "El dummy no tiene id");
+            } else if (invalid != null) {
+                results[i] = rejected(i, invalid.getStatusCode(), invalid.getReason());
             } else {
-                return dummy;
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<Long> newDnis = new ArrayList<>();
+        List<String> newEmails = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            newDnis.add(dummies.get(i).getDni());
+            newEmails.add(dummies.get(i).getEmail());
+        }
+        List<Integer> updated = new ArrayList<>();
+        try {
+            existenceFilter.adding(newDnis, newEmails, () -> transactionTemplate.execute(status -> {
+                Map<Long, DummyEntitie> existing = new HashMap<>();
+                for (DummyEntitie entity : dummyRepository.findAllById(ids)) {
+                    existing.put(entity.getId(), entity);
+                }
+                for (int i = from; i < to; i++) {
+                    Dummy dummy = dummies.get(i);
+                    if (results[i] != null) {
+                        continue;
+                    }
+                    DummyEntitie entity = existing.get(dummy.getId());
+                    DummyStatusException conflict = entity == null ? null : versionConflict(entity, dummy.getVersion());
+                    if (entity == null) {
+                        results[i] = rejected(i, HttpStatus.NOT_FOUND, "El dummy id " + dummy.getId() + " no existe");
+                    } else if (conflict != null) {
+                        results[i] = rejected(i, conflict.getStatusCode(), conflict.getReason());
+                    } else {
+                        dummyMapper.replace(dummy, entity);
+                        updated.add(i);
+                    }
+                }
+                dummyRepository.flush();
+                for (int i : updated) {
+                    changeLog.record(DummyChangeType.UPDATE, existing.get(dummies.get(i).getId()));
+                }
+                dummyRepository.flush();
+                entityManager.clear();
+                return null;
+            }));
+            for (int i : updated) {
+                results[i] = new BulkItemResult(i, dummies.get(i).getId(), HttpStatus.OK.value(), null);
+            }
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException ex) {
+            for (int i : updated) {
+                results[i] = updateOne(i, dummies.get(i));
+            }
+        }
+        for (int i : updated) {
+            dummyCache.evict(dummies.get(i).getId());
+        }
+    }
+
+    private BulkItemResult updateOne(int index, Dummy dummy) {
+        try {
+            return new BulkItemResult(index, updateDummy(dummy).getId(), HttpStatus.OK.value(), null);
+        } catch (ResponseStatusException ex) {
+            return rejected(index, ex.getStatusCode(), ex.getReason());
+        } catch (DataIntegrityViolationException ex) {
+            HttpStatusCode status = GlobalExceptionHandler.statusOf(ex);
+            return rejected(index, status, GlobalExceptionHandler.integrityMessage(status));
+        } catch (OptimisticLockingFailureException ex) {
+            return rejected(index, GlobalExceptionHandler.statusOf(ex),
+                    "El Dummy fue modificado por otra operación, vuelva a leerlo y reintente");
+        }
+    }
+
+    /**
+     * Baja masiva por lotes: una consulta para saber qué ids existen y un único DELETE ... IN por lote,
+     * en una transacción junto con sus registros del change-log (solo el id, sin foto del registro).
+     */
+    @Override
+    public List<BulkItemResult> deleteDummies(List<Long> ids) {
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+        for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+            int to = Math.min(from + bulkChunkSize, ids.size());
+            Set<Long> chunk = new HashSet<>();
+            for (int i = from; i < to; i++) {
+                if (ids.get(i) != null) {
+                    chunk.add(ids.get(i));
+                }
             }
+            Set<Long> existing = chunk.isEmpty() ? Set.of() : transactionTemplate.execute(status -> {
+                Set<Long> found = new HashSet<>(dummyRepository.findExistingIds(chunk));
+                if (!found.isEmpty()) {
+                    dummyRepository.deleteAllByIdInBatch(found);
+                    found.forEach(changeLog::recordDelete);
+                }
+                return found;
+            });
+            for (int i = from; i < to; i++) {
+                Long id = ids.get(i);
+                if (id == null) {
+                    results[i] = rejected(i, HttpStatus.BAD_REQUEST, "El dummy no tiene id");
+                } else if (existing.contains(id)) {
+                    results[i] = new BulkItemResult(i, id, HttpStatus.OK.value(), null);
+                    dummyCache.evict(id);
+                } else {
+                    results[i] = rejected(i, HttpStatus.NOT_FOUND, "El dummy id " + id + " no existe");
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private static BulkItemResult rejected(int index, HttpStatusCode status, String message) {
+        return new BulkItemResult(index, null, status.value(), message);
+    }
+
+    /**
+     * Cambios con seq mayor a {@code after}, hasta la marca del change-log (nunca expone un seq si hay
+     * uno menor en una transacción abierta). Recorre la clave primaria desde el cursor.
+     */
+    @Override
+    public DummyChangePage getChanges(long after, int limit) {
+        long watermark = changeLog.watermark();
+        if (watermark <= after) {
+            return new DummyChangePage(List.of(), after);
+        }
+        List<DummyChangeEntry> entries = changeRepository
+                .findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(after, watermark, Limit.of(limit));
+        List<DummyChange> changes = new ArrayList<>(entries.size());
+        for (DummyChangeEntry entry : entries) {
+            changes.add(dummyMapper.toModel(entry));
+        }
+        // Si la página no se llenó, todo hasta la marca ya se vio (lo que falta son huecos de revertidas)
+        long nextCursor = entries.size() < limit ? watermark : entries.get(entries.size() - 1).getSeq();
+        return new DummyChangePage(changes, nextCursor);
+    }
+
+    @Override
+    public CompletableFuture<Void> awaitChanges(long after, Duration timeout) {
+        return changeLog.awaitAfter(after, timeout);
+    }
+
+    /**
+     * Búsqueda flexible: si viene id, busca por id; si no, intenta encontrar por el campo 'dummy'
+     * (consulta indexada; si hay varios se toma el de mayor id).
+     * Si no se encuentra, lanza 404 con un mensaje claro.
+     */
+    @Override
+    public Dummy getByAllDummy(Dummy dummy) {
+        Long id =  dummy.getId();
+        if (id == null){
+            return dummyRepository.findLatestModelsByDummy(dummy.getDummy(), PageRequest.of(0, 1)).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new DummyStatusException(HttpStatus.NOT_FOUND, "El dummy con dummy '" + dummy.getDummy() + "' no existe"));
         }
         else {
-           DummyEntitie dummyEntitie = dummyRepository.findById(id)
-                   .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "El dummy id " + id + " no existe"));
-           dummy = modelMapper.map(dummyEntitie, Dummy.class);
+           return dummyRepository.findModelById(id)
+                   .orElseThrow(() -> new DummyStatusException(HttpStatus.NOT_FOUND, "El dummy id " + id + " no existe"));
         }
-        return dummy;
     }
 
     /**
@@ -180,30 +809,22 @@ public class DummyServiceImpl implements DummyService {
     @Override
     public List<Dummy> getDummyFiltered(Dummy dummy) {
         Long id =  dummy.getId();
-        List<Dummy> dummyListResponse = new ArrayList<>();
-        int aux = 0; // contador de no coincidencias
         if (id == null){
-            List<DummyEntitie>  dummyEntities = dummyRepository.findAll();
-            DummyEntitie dummyEntitie;
-            for (DummyEntitie dummyEntity : dummyEntities) {
-                dummyEntitie = dummyEntity;
-                if (Objects.equals(dummyEntitie.getDummy(), dummy.getDummy())) {
-                    dummyListResponse.add(modelMapper.map(dummyEntitie, Dummy.class));
-                } else {
-                    aux++;
-                }
-            }
-            if (aux == dummyEntities.size()) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No existe un Dummy con dummy '" + dummy.getDummy() +"'");
-            } else {
-                return dummyListResponse;
+            List<Dummy> dummys = dummyRepository.findModelsByDummy(dummy.getDummy());
+            if (dummys.isEmpty()) {
+                throw new DummyStatusException(HttpStatus.NOT_FOUND, "No existe un Dummy con dummy '" + dummy.getDummy() +"'");
             }
+            return dummys;
         }
         else {
-            DummyEntitie dummyEntitie = dummyRepository.findById(id)
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No existe un Dummy con id " + id));
-            dummy = modelMapper.map(dummyEntitie, Dummy.class);
-            return Collections.singletonList(dummy);
+            Dummy found = dummyRepository.findModelById(id)
+                    .orElseThrow(() -> new DummyStatusException(HttpStatus.NOT_FOUND, "No existe un Dummy con id " + id));
+            return Collections.singletonList(found);
         }
     }
+
+    @Override
+    public Page<Dummy> searchDummies(DummyFilter filter, int page, int size) {
+        return dummyRepository.findModelsMatching(filter, PageRequest.of(page, size, Sort.by("id")));
+    }
 }
@@ -0,0 +1,49 @@
+-- Esquema de Dummy para el perfil "persistent" (H2 en archivo).
+-- Reemplaza la generacion automatica de Hibernate: se ejecuta en cada arranque y es idempotente,
+-- asi que sobre una base existente solo consulta el catalogo (no recorre la tabla ni recrea indices).
+-- Debe coincidir con las entidades: DummyEntitie (restricciones, indices y secuencia con incremento = allocationSize).
+
+CREATE SEQUENCE IF NOT EXISTS dummy_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS dummy_entitie (
+    id        BIGINT       NOT NULL,
+    dummy     VARCHAR(255),
+    dni       BIGINT,
+    email     VARCHAR(255),
+    tel       BIGINT,
+    fecha_nac DATE,
+    version   BIGINT,
+    CONSTRAINT pk_dummy_entitie PRIMARY KEY (id),
+    CONSTRAINT uk_dummy_dni UNIQUE (dni),
+    CONSTRAINT uk_dummy_email UNIQUE (email)
+);
+
+CREATE INDEX IF NOT EXISTS ix_dummy_dummy ON dummy_entitie (dummy);
+CREATE INDEX IF NOT EXISTS ix_dummy_tel ON dummy_entitie (tel);
+CREATE INDEX IF NOT EXISTS ix_dummy_fecha_nac ON dummy_entitie (fecha_nac);
+
+-- Checkpoints de la importacion masiva (DummyImportCheckpoint)
+CREATE TABLE IF NOT EXISTS dummy_import_checkpoint (
+    import_id  VARCHAR(100) NOT NULL,
+    records    BIGINT       NOT NULL,
+    accepted   BIGINT       NOT NULL,
+    rejected   BIGINT       NOT NULL,
+    completed  BOOLEAN      NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_dummy_import_checkpoint PRIMARY KEY (import_id)
+);
+
+-- Change-log (outbox) de Dummy (DummyChangeEntry): el seq lo asigna la aplicacion y es la clave del cursor
+CREATE TABLE IF NOT EXISTS dummy_change (
+    seq        BIGINT     NOT NULL,
+    operation  VARCHAR(6) NOT NULL,
+    dummy_id   BIGINT,
+    version    BIGINT,
+    dummy      VARCHAR(255),
+    dni        BIGINT,
+    email      VARCHAR(255),
+    tel        BIGINT,
+    fecha_nac  DATE,
+    changed_at TIMESTAMP(6),
+    CONSTRAINT pk_dummy_change PRIMARY KEY (seq)
+);
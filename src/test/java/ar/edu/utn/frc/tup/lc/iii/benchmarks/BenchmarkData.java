@@ -0,0 +1,62 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carga de datos sintéticos para los benchmarks. Inserta con JDBC en lotes para no medir la carga.
+ *
+ * La fila i tiene dummy "dummy{i % 1000}", DNI 10.000.000 + i, email "dummy{i}@mail.com",
+ * tel 3510000000 + i y una fecha de nacimiento que recorre 1950-2009.
+ */
+final class BenchmarkData {
+
+    private static final int BATCH = 10_000;
+
+    private BenchmarkData() {
+    }
+
+    static void clear(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("DELETE FROM dummy_entitie");
+    }
+
+    static void insertRows(JdbcTemplate jdbcTemplate, int from, int to) {
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (int i = from; i < to; i++) {
+            batch.add(new Object[]{dummyOf(i), dniOf(i), emailOf(i), 3510000000L + i, Date.valueOf(fechaNacOf(i))});
+            if (batch.size() == BATCH) {
+                flush(jdbcTemplate, batch);
+            }
+        }
+        flush(jdbcTemplate, batch);
+    }
+
+    private static void flush(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO dummy_entitie (id, dummy, dni, email, tel, fecha_nac, version) "
+                            + "VALUES (NEXT VALUE FOR dummy_seq, ?, ?, ?, ?, ?, 0)", batch);
+            batch.clear();
+        }
+    }
+
+    static String dummyOf(int i) {
+        return "dummy" + (i % 1000);
+    }
+
+    static long dniOf(int i) {
+        return 10_000_000L + i;
+    }
+
+    static String emailOf(int i) {
+        return "dummy" + i + "@mail.com";
+    }
+
+    static LocalDate fechaNacOf(int i) {
+        return LocalDate.of(1950 + (i % 60), 1 + (i % 12), 1 + (i % 28));
+    }
+}
@@ -0,0 +1,58 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.models.BulkItemResult;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mide el throughput del alta masiva ({@link DummyService#createDummies}) contra H2.
+ * Objetivo: al menos 50k filas/s.
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=DummyBulkBenchmark
+ */
+@SpringBootTest
+class DummyBulkBenchmark {
+
+    private static final int WARMUP_ROWS = 50_000;
+    private static final int ROWS = 500_000;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void bulkCreateThroughput() {
+        BenchmarkData.clear(jdbcTemplate);
+        dummyService.createDummies(dummies(0, WARMUP_ROWS));
+        BenchmarkData.clear(jdbcTemplate);
+
+        List<Dummy> dummies = dummies(WARMUP_ROWS, WARMUP_ROWS + ROWS);
+        long start = System.nanoTime();
+        List<BulkItemResult> results = dummyService.createDummies(dummies);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long created = results.stream().filter(r -> r.getStatus() == 200).count();
+        assertEquals(ROWS, created);
+        System.out.printf("bulk create: %d filas en %.2f s -> %.0f filas/s%n", ROWS, seconds, ROWS / seconds);
+    }
+
+    private static List<Dummy> dummies(int from, int to) {
+        List<Dummy> dummies = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            dummies.add(new Dummy(null, BenchmarkData.dummyOf(i), BenchmarkData.dniOf(i), BenchmarkData.emailOf(i),
+                    3510000000L + i, BenchmarkData.fechaNacOf(i), null));
+        }
+        return dummies;
+    }
+}
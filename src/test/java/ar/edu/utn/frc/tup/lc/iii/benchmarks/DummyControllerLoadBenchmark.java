@@ -0,0 +1,224 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyExistenceFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Test de carga HTTP contra el servidor embebido para cada ruta de DummyController.
+ *
+ * Cada ruta se ejecuta por separado durante {@code load.duration} segundos con {@code load.concurrency}
+ * clientes cerrados (cada uno envía la siguiente request al recibir la respuesta). Las latencias se
+ * registran en un HdrHistogram y se informa throughput, p50/p99/p999, máximo y tasa de error.
+ * El reporte queda además en {@code target/load/dummy-controller.json}.
+ *
+ * Propiedades (-D):
+ * - load.concurrency: clientes concurrentes (64)
+ * - load.rows: filas precargadas en la tabla (10000)
+ * - load.duration: segundos por ruta (10)
+ * - load.warmup: segundos de calentamiento por ruta (3)
+ * - load.delete-rows: filas descartables que se crean para la ruta delete (100000)
+ * - load.routes: rutas a ejecutar separadas por coma (todas): list,get-id,get-dni,get-dni-missing,create,update,delete
+ *   (get-dni-missing consulta DNIs que no existen: mide el camino del 404)
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=DummyControllerLoadBenchmark
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = LoadBenchmarkSupport.NO_LIMITS)
+class DummyControllerLoadBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final int ROWS = Integer.getInteger("load.rows", 10_000);
+    private static final int DURATION = Integer.getInteger("load.duration", 10);
+    private static final int WARMUP = Integer.getInteger("load.warmup", 3);
+    private static final int DELETE_ROWS = Integer.getInteger("load.delete-rows", 100_000);
+    private static final List<String> ROUTES = Arrays.asList(
+            System.getProperty("load.routes", "list,get-id,get-dni,get-dni-missing,create,update,delete").split(","));
+
+    /** Latencia máxima registrable en el histograma: 60 s en microsegundos */
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DummyExistenceFilter existenceFilter;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final AtomicLong nextDni = new AtomicLong(80_000_000L);
+    private Long[] ids;
+    private ConcurrentLinkedQueue<Long> deletable;
+
+    @Test
+    void loadAllRoutes() throws Exception {
+        BenchmarkData.clear(jdbcTemplate);
+        BenchmarkData.insertRows(jdbcTemplate, 0, ROWS);
+        existenceFilter.rebuild(); // las filas se insertaron por JDBC, sin pasar por el servicio
+        // Ordenados por DNI: ids[i] es la fila con DNI BenchmarkData.dniOf(i)
+        ids = jdbcTemplate.queryForList("SELECT id FROM dummy_entitie ORDER BY dni", Long.class)
+                .toArray(new Long[0]);
+
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        System.out.printf("concurrency=%d rows=%d duration=%ds%n", CONCURRENCY, ROWS, DURATION);
+        System.out.printf("%-9s %-9s %-10s %-8s %-10s %-10s %-10s %-10s%n",
+                "route", "requests", "req/s", "errors", "p50 (ms)", "p99 (ms)", "p999 (ms)", "max (ms)");
+        for (String route : ROUTES) {
+            if ("delete".equals(route)) {
+                prepareDeletable();
+            }
+            run(route, WARMUP);
+            if ("delete".equals(route)) {
+                prepareDeletable();
+            }
+            report.put(route, run(route, DURATION));
+        }
+
+        File out = new File("target/load/dummy-controller.json");
+        out.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, report);
+    }
+
+    /**
+     * Ejecuta una ruta durante {@code seconds} segundos y devuelve (e imprime) sus métricas.
+     */
+    private Map<String, Object> run(String route, int seconds) throws InterruptedException {
+        Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int c = 0; c < CONCURRENCY; c++) {
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = requestFor(route);
+                    if (request == null) {
+                        return;
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        int expected = "get-dni-missing".equals(route) ? 404 : 200;
+                        if (response.statusCode() != expected) {
+                            errors.increment();
+                        }
+                    } catch (IOException ex) {
+                        errors.increment();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    recorder.recordValue(Math.min((System.nanoTime() - start) / 1_000, MAX_LATENCY_MICROS));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(seconds + 120L, TimeUnit.SECONDS);
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        long requests = histogram.getTotalCount();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", requests);
+        result.put("throughput", requests / (double) seconds);
+        result.put("errors", errors.sum());
+        result.put("errorRate", requests == 0 ? 0 : errors.sum() / (double) requests);
+        result.put("p50Ms", histogram.getValueAtPercentile(50) / 1_000.0);
+        result.put("p99Ms", histogram.getValueAtPercentile(99) / 1_000.0);
+        result.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1_000.0);
+        result.put("maxMs", histogram.getMaxValue() / 1_000.0);
+        System.out.printf("%-9s %-9d %-10.0f %-8d %-10.2f %-10.2f %-10.2f %-10.2f%n", route, requests,
+                result.get("throughput"), errors.sum(), result.get("p50Ms"), result.get("p99Ms"),
+                result.get("p999Ms"), result.get("maxMs"));
+        return result;
+    }
+
+    /**
+     * Arma la próxima request de la ruta. Devuelve null cuando no quedan datos (p.ej. ids para borrar).
+     */
+    private HttpRequest requestFor(String route) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (route) {
+            case "list" -> get("/dummy/dummy?page=" + random.nextInt(Math.max(ROWS / 100, 1)) + "&size=100");
+            case "get-id" -> get("/dummy/" + ids[random.nextInt(ids.length)]);
+            case "get-dni" -> get("/dummy/dni/" + BenchmarkData.dniOf(random.nextInt(ROWS)));
+            case "get-dni-missing" -> get("/dummy/dni/" + (1_000_000L + random.nextInt(ROWS)));
+            case "create" -> {
+                long dni = nextDni.incrementAndGet();
+                yield send("POST", "/dummy", body(null, dni));
+            }
+            case "update" -> {
+                int i = random.nextInt(ids.length);
+                yield send("PUT", "/dummy", body(ids[i], BenchmarkData.dniOf(i)));
+            }
+            case "delete" -> {
+                Long id = deletable.poll();
+                yield id == null ? null : HttpRequest.newBuilder(uri("/dummy/" + id)).DELETE().build();
+            }
+            default -> throw new IllegalArgumentException("Ruta desconocida: " + route);
+        };
+    }
+
+    /** Crea filas descartables para la ruta delete (no toca las filas que usan las otras rutas). */
+    private void prepareDeletable() {
+        long firstDni = nextDni.get() + 1;
+        List<Object[]> batch = new ArrayList<>(DELETE_ROWS);
+        for (int i = 0; i < DELETE_ROWS; i++) {
+            long dni = nextDni.incrementAndGet();
+            batch.add(new Object[]{"delete", dni, "delete" + dni + "@mail.com", 3510000000L, Date.valueOf("1990-01-01")});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO dummy_entitie (id, dummy, dni, email, tel, fecha_nac, version) "
+                + "VALUES (NEXT VALUE FOR dummy_seq, ?, ?, ?, ?, ?, 0)", batch);
+        deletable = new ConcurrentLinkedQueue<>(
+                jdbcTemplate.queryForList("SELECT id FROM dummy_entitie WHERE dni >= ?", Long.class, firstDni));
+    }
+
+    private String body(Long id, long dni) {
+        return "{" + (id == null ? "" : "\"id\":" + id + ",") + "\"dummy\":\"load\",\"dni\":" + dni
+                + ",\"email\":\"load" + dni + "@mail.com\",\"tel\":3510000000,\"fecha_Nac\":\"1990-01-01\"}";
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,70 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark de latencia de búsqueda por DNI y email a medida que crece la tabla (1k a 1M filas).
+ *
+ * Con los índices únicos la latencia debe mantenerse plana; con el recorrido completo anterior
+ * crecía linealmente con la cantidad de filas. Se mide contra el repositorio para no medir la caché.
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=DummyLookupBenchmark
+ */
+@SpringBootTest
+class DummyLookupBenchmark {
+
+    private static final int[] TABLE_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int WARMUP = 2_000;
+    private static final int LOOKUPS = 10_000;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void lookupLatencyByTableSize() {
+        BenchmarkData.clear(jdbcTemplate);
+        int rows = 0;
+        System.out.printf("%-10s %-16s %-16s%n", "rows", "dni (us/op)", "email (us/op)");
+        for (int size : TABLE_SIZES) {
+            BenchmarkData.insertRows(jdbcTemplate, rows, size);
+            rows = size;
+
+            measure(rows, WARMUP);
+            double dniMicros = measureDni(rows, LOOKUPS);
+            double emailMicros = measureEmail(rows, LOOKUPS);
+            System.out.printf("%-10d %-16.2f %-16.2f%n", rows, dniMicros, emailMicros);
+        }
+    }
+
+    private void measure(int rows, int iterations) {
+        measureDni(rows, iterations);
+        measureEmail(rows, iterations);
+    }
+
+    private double measureDni(int rows, int iterations) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            dummyRepository.findByDni(BenchmarkData.dniOf(random.nextInt(rows))).orElseThrow();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+
+    private double measureEmail(int rows, int iterations) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            dummyRepository.findByEmail(BenchmarkData.emailOf(random.nextInt(rows))).orElseThrow();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+}
@@ -0,0 +1,113 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.config.MappersConfig;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyDto;
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.mappers.DummyMapper;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara los ModelMapper de {@link MappersConfig} (reflexivos) contra {@link DummyMapper} (escrito a mano)
+ * en el camino Entity -> Model -> DTO, para un objeto y para una lista de 100k filas, y en el merge
+ * parcial (mergerMapper vs DummyMapper.merge).
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=DummyMappingBenchmark
+ * Resultados en target/jmh/DummyMappingBenchmark.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DummyMappingBenchmark {
+
+    private static final int LIST_SIZE = 100_000;
+
+    private ModelMapper modelMapper;
+    private ModelMapper mergerMapper;
+    private DummyMapper dummyMapper;
+    private Dummy patch;
+    private DummyEntitie entity;
+    private List<DummyEntitie> entities;
+
+    @Setup
+    public void setup() {
+        MappersConfig mappersConfig = new MappersConfig();
+        modelMapper = mappersConfig.modelMapper();
+        mergerMapper = mappersConfig.mergerMapper();
+        dummyMapper = new DummyMapper();
+        patch = new Dummy();
+        patch.setDummy("patched");
+        patch.setTel(3519999999L);
+        entity = new DummyEntitie(1L, "dummy", 30123456L, "dummy@mail.com", 3510000000L, LocalDate.of(1990, 1, 1), 0L);
+        entities = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            entities.add(new DummyEntitie((long) i, "dummy" + i, 10_000_000L + i, "dummy" + i + "@mail.com",
+                    3510000000L + i, LocalDate.of(1990, 1, 1), 0L));
+        }
+    }
+
+    @Benchmark
+    public DummyDto modelMapperSingle() {
+        return modelMapper.map(modelMapper.map(entity, Dummy.class), DummyDto.class);
+    }
+
+    @Benchmark
+    public DummyDto dummyMapperSingle() {
+        return dummyMapper.toDto(dummyMapper.toModel(entity));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<DummyDto> modelMapperList() {
+        List<DummyDto> dtos = new ArrayList<>(entities.size());
+        for (DummyEntitie e : entities) {
+            dtos.add(modelMapper.map(modelMapper.map(e, Dummy.class), DummyDto.class));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<DummyDto> dummyMapperList() {
+        return dummyMapper.toDtos(dummyMapper.toModels(entities));
+    }
+
+    @Benchmark
+    public DummyEntitie mergerMapperMerge() {
+        DummyEntitie target = new DummyEntitie();
+        mergerMapper.map(patch, target);
+        return target;
+    }
+
+    @Benchmark
+    public DummyEntitie dummyMapperMerge() {
+        DummyEntitie target = new DummyEntitie();
+        dummyMapper.merge(patch, target);
+        return target;
+    }
+
+    @Test
+    void run() throws RunnerException {
+        JmhRunner.run(DummyMappingBenchmark.class);
+    }
+}
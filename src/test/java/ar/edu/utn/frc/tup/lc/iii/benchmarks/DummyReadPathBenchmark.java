@@ -0,0 +1,126 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.Application;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyDto;
+import ar.edu.utn.frc.tup.lc.iii.mappers.DummyMapper;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Camino de lectura con entidades (como era antes) contra la proyección directa al modelo, de la base
+ * hasta el DTO de respuesta, sin caché:
+ * - entity*: entidades administradas (copia para dirty checking) -> Dummy -> DummyDto.
+ * - projection*: expresión constructora a Dummy en transacción de solo lectura -> DummyDto.
+ *
+ * Casos: un Dummy por id, una página de 100 y la tabla completa. Corre con GCProfiler: además del
+ * tiempo, {@code gc.alloc.rate.norm} informa los bytes asignados por operación.
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=DummyReadPathBenchmark
+ * Resultados en target/jmh/DummyReadPathBenchmark.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DummyReadPathBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"10000"})
+    public int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private DummyRepository dummyRepository;
+    private DummyMapper dummyMapper;
+    private Long[] ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+        dummyRepository = context.getBean(DummyRepository.class);
+        dummyMapper = context.getBean(DummyMapper.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkData.insertRows(jdbcTemplate, 0, tableSize);
+        ids = jdbcTemplate.queryForList("SELECT id FROM dummy_entitie", Long.class).toArray(new Long[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DummyDto entityById() {
+        return dummyRepository.findById(randomId()).map(dummyMapper::toModel).map(dummyMapper::toDto).orElseThrow();
+    }
+
+    @Benchmark
+    public DummyDto projectionById() {
+        return dummyRepository.findModelById(randomId()).map(dummyMapper::toDto).orElseThrow();
+    }
+
+    @Benchmark
+    public List<DummyDto> entityPage() {
+        return dummyMapper.toDtos(dummyMapper.toModels(dummyRepository.findAllBy(randomPage()).getContent()));
+    }
+
+    @Benchmark
+    public List<DummyDto> projectionPage() {
+        return dummyMapper.toDtos(dummyRepository.findModels(randomPage()).getContent());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<DummyDto> entityList() {
+        return dummyMapper.toDtos(dummyMapper.toModels(dummyRepository.findAll()));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<DummyDto> projectionList() {
+        return dummyMapper.toDtos(dummyRepository.findAllModels());
+    }
+
+    private Long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private PageRequest randomPage() {
+        return PageRequest.of(ThreadLocalRandom.current().nextInt(tableSize / PAGE_SIZE), PAGE_SIZE, Sort.by("id"));
+    }
+
+    @Test
+    void run() throws RunnerException {
+        JmhRunner.run(DummyReadPathBenchmark.class, GCProfiler.class);
+    }
+}
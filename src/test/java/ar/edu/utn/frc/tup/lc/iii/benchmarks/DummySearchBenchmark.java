@@ -0,0 +1,92 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyFilter;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compara la búsqueda indexada ({@link DummyService#searchDummies}) con el recorrido completo
+ * que hacían getByAllDummy / getDummyFiltered (findAll + comparación en Java).
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=DummySearchBenchmark
+ */
+@SpringBootTest
+class DummySearchBenchmark {
+
+    private static final int[] TABLE_SIZES = {1_000, 10_000, 100_000};
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void searchVersusScan() {
+        BenchmarkData.clear(jdbcTemplate);
+        int rows = 0;
+        System.out.printf("%-10s %-18s %-18s %-18s%n", "rows", "scan (ms/op)", "dummy= (ms/op)", "fecha rango (ms/op)");
+        for (int size : TABLE_SIZES) {
+            BenchmarkData.insertRows(jdbcTemplate, rows, size);
+            rows = size;
+
+            scan(rows, 5);
+            searchByDummy(rows, 5);
+            double scanMillis = scan(rows, ITERATIONS);
+            double dummyMillis = searchByDummy(rows, ITERATIONS);
+            double rangeMillis = searchByRange(ITERATIONS);
+            System.out.printf("%-10d %-18.3f %-18.3f %-18.3f%n", rows, scanMillis, dummyMillis, rangeMillis);
+        }
+    }
+
+    /** Implementación anterior: carga toda la tabla y filtra en memoria. */
+    private double scan(int rows, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            String dummy = BenchmarkData.dummyOf(ThreadLocalRandom.current().nextInt(rows));
+            List<DummyEntitie> matches = new ArrayList<>();
+            for (DummyEntitie entity : dummyRepository.findAll()) {
+                if (Objects.equals(entity.getDummy(), dummy)) {
+                    matches.add(entity);
+                }
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / iterations;
+    }
+
+    private double searchByDummy(int rows, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            DummyFilter filter = new DummyFilter();
+            filter.setDummy(BenchmarkData.dummyOf(ThreadLocalRandom.current().nextInt(rows)));
+            dummyService.searchDummies(filter, 0, 100);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / iterations;
+    }
+
+    private double searchByRange(int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            DummyFilter filter = new DummyFilter();
+            filter.setFechaNacDesde(LocalDate.of(1980, 1, 1));
+            filter.setFechaNacHasta(LocalDate.of(1980, 12, 31));
+            dummyService.searchDummies(filter, 0, 100);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / iterations;
+    }
+}
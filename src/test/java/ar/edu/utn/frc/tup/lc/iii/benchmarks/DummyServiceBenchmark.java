@@ -0,0 +1,114 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.Application;
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyExistenceFilter;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks JMH de {@link DummyService} contra H2 en memoria, para varios tamaños de tabla:
+ * lookup por id y por DNI (con y sin caché), alta, página de 100 y listado completo.
+ *
+ * Cada combinación de parámetros corre en su propia JVM con un contexto de Spring sin servidor web.
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=DummyServiceBenchmark
+ * Resultados en target/jmh/DummyServiceBenchmark.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DummyServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int tableSize;
+
+    /** "on": caché por defecto; "off": tamaño 0, cada lookup va a la base */
+    @Param({"on", "off"})
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+    private DummyService dummyService;
+    private Long[] ids;
+    private final AtomicLong nextDni = new AtomicLong(90_000_000L);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false);
+        if ("off".equals(cache)) {
+            builder.properties("app.cache.dummy.max-size=0");
+        }
+        context = builder.run();
+        dummyService = context.getBean(DummyService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkData.insertRows(jdbcTemplate, 0, tableSize);
+        context.getBean(DummyExistenceFilter.class).rebuild(); // filas insertadas por JDBC, sin pasar por el servicio
+        ids = jdbcTemplate.queryForList("SELECT id FROM dummy_entitie", Long.class).toArray(new Long[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Dummy getDummyByDni() {
+        return dummyService.getDummyByDNI(BenchmarkData.dniOf(ThreadLocalRandom.current().nextInt(tableSize)));
+    }
+
+    @Benchmark
+    public Dummy getDummyById() {
+        return dummyService.getDummy(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public Dummy createDummy() {
+        long dni = nextDni.incrementAndGet();
+        return dummyService.createDummy(new Dummy(null, "bench", dni, "bench" + dni + "@mail.com",
+                3510000000L, BenchmarkData.fechaNacOf((int) dni), null));
+    }
+
+    @Benchmark
+    public List<Dummy> getDummyPage() {
+        return dummyService.getDummyPage(ThreadLocalRandom.current().nextInt(tableSize / 100), 100);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Dummy> getDummyList() {
+        return dummyService.getDummyList();
+    }
+
+    @Test
+    void run() throws RunnerException {
+        JmhRunner.run(DummyServiceBenchmark.class);
+    }
+}
@@ -0,0 +1,77 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.mappers.DummyMapper;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+/**
+ * Cuenta las sentencias SQL de cada forma de actualizar un Dummy usando las estadísticas de Hibernate:
+ * el updateDummy anterior (dos save), el updateDummy actual (un save) y el PATCH (dirty checking
+ * con {@code @DynamicUpdate}).
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=DummyUpdateStatementsBenchmark
+ */
+@SpringBootTest(properties = "app.metrics.hibernate=true")
+class DummyUpdateStatementsBenchmark {
+
+    private static final int UPDATES = 1_000;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Autowired
+    private DummyMapper dummyMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statementsPerUpdate() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Dummy created = dummyService.createDummy(new Dummy(null, "v", 60_000_001L, "update-stmts@mail.com", 1L, LocalDate.of(1990, 1, 1), null));
+
+        statistics.clear();
+        for (int i = 0; i < UPDATES; i++) {
+            created.setDummy("legacy" + i);
+            // Implementación anterior de updateDummy
+            DummyEntitie saved = dummyRepository.save(dummyMapper.toEntity(created));
+            dummyRepository.save(saved);
+        }
+        report("updateDummy (2 save)", statistics);
+
+        statistics.clear();
+        for (int i = 0; i < UPDATES; i++) {
+            created.setDummy("put" + i);
+            dummyService.updateDummy(created);
+        }
+        report("updateDummy (1 save)", statistics);
+
+        statistics.clear();
+        for (int i = 0; i < UPDATES; i++) {
+            Dummy patch = new Dummy();
+            patch.setDummy("patch" + i);
+            dummyService.patchDummy(created.getId(), patch);
+        }
+        report("patchDummy", statistics);
+    }
+
+    private static void report(String name, Statistics statistics) {
+        System.out.printf("%-22s sentencias/update=%.2f  entidades cargadas/update=%.2f  updates/update=%.2f%n", name,
+                statistics.getPrepareStatementCount() / (double) UPDATES,
+                statistics.getEntityLoadCount() / (double) UPDATES,
+                statistics.getEntityUpdateCount() / (double) UPDATES);
+    }
+}
@@ -0,0 +1,37 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import org.openjdk.jmh.profile.Profiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Lanza los benchmarks JMH de una clase desde JUnit y deja el resultado en JSON en
+ * {@code target/jmh/<Clase>.json}, para poder comparar corridas.
+ *
+ * Opcional: {@code -Djmh.filter=<regex>} para correr solo algunos métodos de la clase.
+ * Los profilers indicados (p.ej. GCProfiler para bytes asignados por operación) se agregan al resultado.
+ */
+final class JmhRunner {
+
+    private JmhRunner() {
+    }
+
+    @SafeVarargs
+    static void run(Class<?> benchmarkClass, Class<? extends Profiler>... profilers) throws RunnerException {
+        new File("target/jmh").mkdirs();
+        String include = benchmarkClass.getName() + "." + System.getProperty("jmh.filter", ".*");
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/" + benchmarkClass.getSimpleName() + ".json");
+        for (Class<? extends Profiler> profiler : profilers) {
+            options.addProfiler(profiler);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,73 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.config.MappersConfig;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de listas de {@link DummyDto} con el ObjectMapper de {@link MappersConfig}
+ * (el mismo que usa Spring MVC para las respuestas).
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=JsonSerializationBenchmark
+ * Resultados en target/jmh/JsonSerializationBenchmark.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<DummyDto> dtos;
+
+    @Setup
+    public void setup() {
+        objectMapper = new MappersConfig().objectMapper();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, DummyDto.class));
+        dtos = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            dtos.add(new DummyDto((long) i, BenchmarkData.dummyOf(i), BenchmarkData.dniOf(i), BenchmarkData.emailOf(i),
+                    3510000000L + i, BenchmarkData.fechaNacOf(i), 0L));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] typedWriterAsBytes() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(dtos);
+    }
+
+    @Test
+    void run() throws RunnerException {
+        JmhRunner.run(JsonSerializationBenchmark.class);
+    }
+}
@@ -0,0 +1,110 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyExistenceFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base de los benchmarks de carga HTTP de los modos de ejecución (hilos de plataforma vs virtuales).
+ *
+ * Cada cliente concurrente hace {@link #REQUESTS_PER_CLIENT} GET /dummy/dni/{DNI} seguidos con el
+ * cliente HTTP asíncrono del JDK. Se informa throughput, p50 y p99 para 1k y 10k clientes.
+ */
+abstract class LoadBenchmarkSupport {
+
+    static final String SERVER_PROPERTIES = "server.tomcat.max-connections=20000";
+
+    /** Los benchmarks de carga simulan muchos pedidos desde un mismo cliente: sin límites por cliente */
+    static final String NO_LIMITS = "app.limits.enabled=false";
+
+    private static final int ROWS = 10_000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int[] CLIENTS = {1_000, 10_000};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DummyExistenceFilter existenceFilter;
+
+    void run(String mode) {
+        BenchmarkData.clear(jdbcTemplate);
+        BenchmarkData.insertRows(jdbcTemplate, 0, ROWS);
+        existenceFilter.rebuild(); // las filas se insertaron por JDBC, sin pasar por el servicio
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+
+        load(client, 200);
+        System.out.printf("%-10s %-8s %-12s %-10s %-10s %-8s%n", "mode", "clients", "req/s", "p50 (ms)", "p99 (ms)", "errors");
+        for (int clients : CLIENTS) {
+            long start = System.nanoTime();
+            Result result = load(client, clients);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("%-10s %-8d %-12.0f %-10.2f %-10.2f %-8d%n", mode, clients,
+                    result.latencies.length / seconds, percentile(result.latencies, 0.50),
+                    percentile(result.latencies, 0.99), result.errors);
+        }
+    }
+
+    private Result load(HttpClient client, int clients) {
+        List<CompletableFuture<Void>> running = new ArrayList<>(clients);
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        for (int c = 0; c < clients; c++) {
+            running.add(request(client, REQUESTS_PER_CLIENT, latencies, next, errors));
+        }
+        CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+        return new Result(Arrays.copyOf(latencies, next.get()), errors.get());
+    }
+
+    /** Encadena {@code remaining} requests de un cliente, una después de la otra. */
+    private CompletableFuture<Void> request(HttpClient client, int remaining, long[] latencies,
+                                            AtomicInteger next, AtomicInteger errors) {
+        if (remaining == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long dni = BenchmarkData.dniOf(ThreadLocalRandom.current().nextInt(ROWS));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/dummy/dni/" + dni))
+                .timeout(Duration.ofSeconds(60)).GET().build();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, ex) -> {
+                    if (ex != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    } else {
+                        latencies[next.getAndIncrement()] = System.nanoTime() - start;
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> request(client, remaining - 1, latencies, next, errors));
+    }
+
+    private static double percentile(long[] latencies, double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Result(long[] latencies, int errors) {
+    }
+}
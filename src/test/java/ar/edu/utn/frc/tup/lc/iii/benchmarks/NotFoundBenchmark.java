@@ -0,0 +1,121 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.exceptions.DummyStatusException;
+import ar.edu.utn.frc.tup.lc.iii.exceptions.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput del camino de un 404 (lanzar la excepción desde el servicio y armar la respuesta de error).
+ *
+ * - baseline: como era antes, ResponseStatusException con stack trace y cuerpo con
+ *   {@code OffsetDateTime.now().toString()} y el path sacado de {@code WebRequest.getDescription}.
+ * - responseStatusException: ResponseStatusException genérica por el manejador actual.
+ * - dummyStatusException: {@link DummyStatusException} (sin stack trace) por el manejador liviano.
+ *
+ * La excepción se lanza a {@code depth} marcos de profundidad, porque el costo del stack trace crece con
+ * la pila y en la aplicación real (filtros, dispatcher, proxies) la pila tiene más de cien marcos.
+ * Para medirlo de punta a punta por HTTP: DummyControllerLoadBenchmark con -Dload.routes=get-dni-missing.
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=NotFoundBenchmark
+ * Resultados en target/jmh/NotFoundBenchmark.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotFoundBenchmark {
+
+    private static final String PATH = "/dummy/dni/99999999";
+
+    @Param({"10", "100"})
+    public int depth;
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setup() {
+        handler = new GlobalExceptionHandler();
+        ReflectionTestUtils.setField(handler, "meterRegistry", new SimpleMeterRegistry());
+        request = new MockHttpServletRequest("GET", PATH);
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object baseline() {
+        try {
+            throwAt(depth, () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "El dummy DNI 99999999 no se encuentra"));
+            return null;
+        } catch (ResponseStatusException ex) {
+            HttpStatusCode status = ex.getStatusCode();
+            String desc = webRequest.getDescription(false);
+            GlobalExceptionHandler.ErrorResponse body = GlobalExceptionHandler.ErrorResponse.builder()
+                    .timestamp(OffsetDateTime.now().toString())
+                    .status(status.value())
+                    .error(status.toString())
+                    .message(ex.getReason())
+                    .path(desc.substring(desc.indexOf("uri=") + 4))
+                    .build();
+            return ResponseEntity.status(status).body(body);
+        }
+    }
+
+    @Benchmark
+    public Object responseStatusException() {
+        try {
+            throwAt(depth, () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "El dummy DNI 99999999 no se encuentra"));
+            return null;
+        } catch (ResponseStatusException ex) {
+            return handler.handleResponseStatus(ex, webRequest);
+        }
+    }
+
+    @Benchmark
+    public Object dummyStatusException() {
+        try {
+            throwAt(depth, () -> new DummyStatusException(HttpStatus.NOT_FOUND, "El dummy DNI 99999999 no se encuentra"));
+            return null;
+        } catch (DummyStatusException ex) {
+            return handler.handleDummyStatus(ex, request);
+        }
+    }
+
+    private static void throwAt(int depth, Supplier<? extends RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        throwAt(depth - 1, exception);
+    }
+
+    @Test
+    void run() throws RunnerException {
+        JmhRunner.run(NotFoundBenchmark.class);
+    }
+}
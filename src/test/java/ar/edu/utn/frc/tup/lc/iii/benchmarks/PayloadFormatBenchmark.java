@@ -0,0 +1,94 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.config.MappersConfig;
+import ar.edu.utn.frc.tup.lc.iii.config.MessageConvertersConfig;
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tamaño y tiempo de serialización de {@code List<DummyDto>} en JSON, CBOR y Smile, sin comprimir y con
+ * gzip (lo que hace la compresión de respuestas del servidor). Los mappers binarios se arman igual que en
+ * {@link MessageConvertersConfig}: copia del ObjectMapper de {@link MappersConfig} con otra fábrica.
+ *
+ * Al iniciar cada combinación imprime los bytes de la respuesta sin comprimir y con gzip.
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=PayloadFormatBenchmark
+ * Resultados en target/jmh/PayloadFormatBenchmark.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param({"100", "10000"})
+    public int listSize;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectWriter writer;
+    private List<DummyDto> dtos;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper json = new MappersConfig().objectMapper();
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, DummyDto.class));
+        dtos = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            dtos.add(new DummyDto((long) i, BenchmarkData.dummyOf(i), BenchmarkData.dniOf(i), BenchmarkData.emailOf(i),
+                    3510000000L + i, BenchmarkData.fechaNacOf(i), 0L));
+        }
+        System.out.printf("%n%s, %d elementos: %d bytes, %d bytes con gzip%n",
+                format, listSize, serialize().length, serializeGzip().length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            writer.writeValue(gzip, dtos);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void run() throws RunnerException {
+        JmhRunner.run(PayloadFormatBenchmark.class);
+    }
+}
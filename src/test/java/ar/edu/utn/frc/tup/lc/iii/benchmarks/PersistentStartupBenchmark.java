@@ -0,0 +1,90 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import ar.edu.utn.frc.tup.lc.iii.Application;
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyExistenceFilter;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Arranque y throughput del perfil "persistent" (H2 en archivo con esquema explícito).
+ *
+ * Crea una base en un directorio temporal, la carga con {@code startup.rows} filas por JDBC (informa
+ * filas/s) y luego reinicia la aplicación {@code startup.restarts} veces. En cada reinicio informa:
+ * - tiempo de arranque del contexto (base ya creada: el esquema solo consulta el catálogo),
+ * - tiempo desde el inicio hasta que el filtro de existencia terminó de cargarse en segundo plano,
+ * - búsquedas por DNI por segundo a través del servicio, con la caché fría al empezar.
+ *
+ * Propiedades (-D): startup.rows (1000000; usar 10000000 para el caso grande), startup.restarts (3),
+ * startup.lookups (100000).
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=PersistentStartupBenchmark -Dstartup.rows=10000000
+ */
+class PersistentStartupBenchmark {
+
+    private static final int ROWS = Integer.getInteger("startup.rows", 1_000_000);
+    private static final int RESTARTS = Integer.getInteger("startup.restarts", 3);
+    private static final int LOOKUPS = Integer.getInteger("startup.lookups", 100_000);
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void restartTimeAndThroughput() throws InterruptedException {
+        String url = "jdbc:h2:file:" + dataDir.resolve("dummy").toAbsolutePath()
+                + ";CACHE_SIZE=262144;DB_CLOSE_ON_EXIT=FALSE;MAX_COMPACT_TIME=2000;LOCK_TIMEOUT=10000";
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(url)) {
+            System.out.printf("arranque con base vacía: %.0f ms%n", millisSince(start));
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            long loadStart = System.nanoTime();
+            BenchmarkData.insertRows(jdbcTemplate, 0, ROWS);
+            System.out.printf("carga de %d filas: %.0f ms (%.0f filas/s)%n", ROWS, millisSince(loadStart),
+                    ROWS / (millisSince(loadStart) / 1_000));
+        }
+
+        System.out.printf("%-8s %-14s %-16s %-14s%n", "restart", "startup (ms)", "filter (ms)", "lookups/s");
+        for (int restart = 1; restart <= RESTARTS; restart++) {
+            start = System.nanoTime();
+            try (ConfigurableApplicationContext context = start(url)) {
+                double startupMillis = millisSince(start);
+                DummyService dummyService = context.getBean(DummyService.class);
+                DummyExistenceFilter filter = context.getBean(DummyExistenceFilter.class);
+
+                while (!Boolean.TRUE.equals(filter.stats().get("ready"))) {
+                    Thread.sleep(10);
+                }
+                double filterMillis = millisSince(start);
+
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long lookupStart = System.nanoTime();
+                for (int i = 0; i < LOOKUPS; i++) {
+                    dummyService.getDummyByDNI(BenchmarkData.dniOf(random.nextInt(ROWS)));
+                }
+                double lookupsPerSecond = LOOKUPS / (millisSince(lookupStart) / 1_000);
+                System.out.printf("%-8d %-14.0f %-16.0f %-14.0f%n", restart, startupMillis, filterMillis, lookupsPerSecond);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String url) {
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .profiles("persistent")
+                .properties("spring.datasource.url=" + url)
+                .logStartupInfo(false)
+                .run();
+    }
+
+    private static double millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
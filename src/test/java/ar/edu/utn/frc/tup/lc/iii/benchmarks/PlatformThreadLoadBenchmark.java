@@ -0,0 +1,20 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Carga HTTP con el pool de hilos de plataforma por defecto de Tomcat.
+ * Comparar con {@link VirtualThreadLoadBenchmark}.
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=PlatformThreadLoadBenchmark
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {LoadBenchmarkSupport.SERVER_PROPERTIES, LoadBenchmarkSupport.NO_LIMITS})
+class PlatformThreadLoadBenchmark extends LoadBenchmarkSupport {
+
+    @Test
+    void platformThreads() {
+        run("platform");
+    }
+}
@@ -0,0 +1,25 @@
+package ar.edu.utn.frc.tup.lc.iii.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Carga HTTP con el perfil "virtual-threads" (requiere Java 21).
+ * Comparar con {@link PlatformThreadLoadBenchmark}.
+ *
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=VirtualThreadLoadBenchmark
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {LoadBenchmarkSupport.SERVER_PROPERTIES, LoadBenchmarkSupport.NO_LIMITS})
+@ActiveProfiles("virtual-threads")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadBenchmark extends LoadBenchmarkSupport {
+
+    @Test
+    void virtualThreads() {
+        run("virtual");
+    }
+}
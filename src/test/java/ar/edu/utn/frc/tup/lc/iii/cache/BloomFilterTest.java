@@ -0,0 +1,43 @@
+package ar.edu.utn.frc.tup.lc.iii.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que {@link BloomFilter} no tenga falsos negativos y respete la tasa de falsos positivos.
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+    private static final double FPP = 0.01;
+
+    @Test
+    void noFalseNegativesAndFalsePositiveRateNearConfigured() {
+        BloomFilter dnis = new BloomFilter(INSERTIONS, FPP);
+        BloomFilter emails = new BloomFilter(INSERTIONS, FPP);
+        for (int i = 0; i < INSERTIONS; i++) {
+            dnis.put(BloomFilter.hash(10_000_000L + i));
+            emails.put(BloomFilter.hash("dummy" + i + "@mail.com"));
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(dnis.mightContain(BloomFilter.hash(10_000_000L + i)));
+            assertTrue(emails.mightContain(BloomFilter.hash("dummy" + i + "@mail.com")));
+        }
+
+        int dniFalsePositives = 0;
+        int emailFalsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (dnis.mightContain(BloomFilter.hash(50_000_000L + i))) {
+                dniFalsePositives++;
+            }
+            if (emails.mightContain(BloomFilter.hash("other" + i + "@mail.com"))) {
+                emailFalsePositives++;
+            }
+        }
+        // Margen del doble sobre la tasa configurada
+        assertTrue(dniFalsePositives < INSERTIONS * FPP * 2, "falsos positivos DNI: " + dniFalsePositives);
+        assertTrue(emailFalsePositives < INSERTIONS * FPP * 2, "falsos positivos email: " + emailFalsePositives);
+    }
+}
@@ -0,0 +1,122 @@
+package ar.edu.utn.frc.tup.lc.iii.cache;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifica que {@link DummyCache} no deje valores viejos con lecturas y escrituras concurrentes.
+ */
+@SpringBootTest
+class DummyCacheTest {
+
+    private static final int READERS = 16;
+    private static final int UPDATES = 200;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Test
+    void concurrentUpdatesLeaveCacheInSyncWithDatabase() throws Exception {
+        Dummy created = dummyService.createDummy(newDummy(50_000_001L, "cache-update@mail.com"));
+        Long id = created.getId();
+
+        runWithReaders(id, created.getDni(), () -> {
+            for (int i = 0; i < UPDATES; i++) {
+                Dummy update = newDummy(created.getDni(), created.getEmail());
+                update.setId(id);
+                update.setDummy("v" + i);
+                dummyService.updateDummy(update);
+            }
+        });
+
+        DummyEntitie stored = dummyRepository.findById(id).orElseThrow();
+        assertEquals("v" + (UPDATES - 1), stored.getDummy());
+        assertEquals(stored.getDummy(), dummyService.getDummy(id).getDummy());
+        assertEquals(stored.getDummy(), dummyService.getDummyByDNI(created.getDni()).getDummy());
+        assertEquals(stored.getDummy(), dummyService.getDummyByEmail(created.getEmail()).getDummy());
+    }
+
+    @Test
+    void concurrentDeleteIsNotServedFromCache() throws Exception {
+        Dummy created = dummyService.createDummy(newDummy(50_000_002L, "cache-delete@mail.com"));
+        Long id = created.getId();
+
+        runWithReaders(id, created.getDni(), () -> dummyService.deleteDummy(id));
+
+        assertThrows(ResponseStatusException.class, () -> dummyService.getDummy(id));
+        assertThrows(ResponseStatusException.class, () -> dummyService.getDummyByDNI(created.getDni()));
+        assertThrows(ResponseStatusException.class, () -> dummyService.getDummyByEmail(created.getEmail()));
+    }
+
+    @Test
+    void changedDniIsNotResolvedThroughOldIndexEntry() {
+        Dummy created = dummyService.createDummy(newDummy(50_000_003L, "cache-dni@mail.com"));
+        dummyService.getDummyByDNI(created.getDni());
+        dummyService.getDummyByDNI(created.getDni());
+
+        Dummy update = newDummy(50_000_004L, created.getEmail());
+        update.setId(created.getId());
+        dummyService.updateDummy(update);
+
+        assertThrows(ResponseStatusException.class, () -> dummyService.getDummyByDNI(50_000_003L));
+        assertEquals(created.getId(), dummyService.getDummyByDNI(50_000_004L).getId());
+    }
+
+    /**
+     * Ejecuta {@code writer} mientras READERS hilos leen el Dummy por id y por DNI sin parar.
+     */
+    private void runWithReaders(Long id, Long dni, Runnable writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(READERS);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                readers.add(executor.submit(() -> {
+                    started.countDown();
+                    while (running.get()) {
+                        try {
+                            dummyService.getDummy(id);
+                            dummyService.getDummyByDNI(dni);
+                        } catch (ResponseStatusException ignored) {
+                            // esperado una vez eliminado
+                        }
+                    }
+                }));
+            }
+            started.await();
+            writer.run();
+            running.set(false);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Dummy newDummy(Long dni, String email) {
+        return new Dummy(null, "v", dni, email, 1L, LocalDate.of(1990, 1, 1), null);
+    }
+}
@@ -0,0 +1,96 @@
+package ar.edu.utn.frc.tup.lc.iii.cache;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de carga: REQUESTS pedidos simultáneos de la misma clave, con la caché vacía, deben
+ * resolverse con una consulta compartida en lugar de una por pedido como cuando se consulta el
+ * repositorio directamente. Por id es una sola; por DNI son la del DNI y la del id, que hace el primero
+ * que ya encuentra el DNI en el índice (ninguna si todos llegan durante la consulta del DNI).
+ */
+@SpringBootTest(properties = "app.metrics.hibernate=true")
+class DummyCoalescingTest {
+
+    private static final int REQUESTS = 1_000;
+    private static final int THREADS = 200;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Autowired
+    private DummyCache dummyCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void concurrentIdenticalLookupsShareQueries() throws Exception {
+        Dummy created = dummyService.createDummy(
+                new Dummy(null, "hot", 52_000_001L, "coalescing@mail.com", 1L, LocalDate.of(1990, 1, 1), null));
+        Long dni = created.getDni();
+        Long id = created.getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        long direct = queriesFor(statistics, () -> dummyRepository.findModelByDni(dni).orElseThrow());
+
+        dummyCache.clear();
+        long byDni = queriesFor(statistics, () -> dummyService.getDummyByDNI(dni));
+
+        dummyCache.clear();
+        long byId = queriesFor(statistics, () -> dummyService.getDummy(id));
+
+        assertEquals(REQUESTS, direct, "consultas del repositorio para " + REQUESTS + " pedidos");
+        assertTrue(byDni == 1 || byDni == 2,
+                "getDummyByDNI hizo " + byDni + " consultas para " + REQUESTS + " pedidos (esperadas: DNI + id)");
+        assertEquals(1, byId, "consultas de getDummy para " + REQUESTS + " pedidos");
+    }
+
+    /**
+     * Lanza REQUESTS llamadas a la vez, verifica que todas devuelvan el Dummy esperado y devuelve
+     * cuántas sentencias JDBC se prepararon.
+     */
+    private long queriesFor(Statistics statistics, Callable<Dummy> lookup) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long before = statistics.getPrepareStatementCount();
+        try {
+            List<Future<Dummy>> results = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return lookup.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Dummy> result : results) {
+                assertEquals("hot", result.get().getDummy());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
@@ -0,0 +1,102 @@
+package ar.edu.utn.frc.tup.lc.iii.cache;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que {@link DummyExistenceFilter#rebuild} no pierda los DNI y emails dados de alta mientras
+ * recorre la tabla (un falso negativo haría responder 404 a un Dummy que existe).
+ *
+ * La tabla se precarga por JDBC para que el recorrido dure lo suficiente y las altas concurrentes
+ * caigan durante la reconstrucción.
+ */
+@SpringBootTest(properties = "app.filter.dummy.expected-insertions=1000000")
+class DummyExistenceFilterTest {
+
+    private static final int WRITERS = 8;
+    private static final int SEED_ROWS = 200_000;
+    private static final long SEED_DNI = 57_000_000L;
+    private static final long FIRST_DNI = 56_000_000L;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyExistenceFilter existenceFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rebuildDuringWritesHasNoFalseNegatives() throws Exception {
+        seed();
+        existenceFilter.rebuild();
+
+        AtomicLong nextDni = new AtomicLong(FIRST_DNI);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(executor.submit(() -> {
+                    while (running.get()) {
+                        long dni = nextDni.getAndIncrement();
+                        dummyService.createDummy(new Dummy(null, "filter", dni, emailOf(dni), 1L,
+                                LocalDate.of(1990, 1, 1), null));
+                    }
+                }));
+            }
+            while (nextDni.get() < FIRST_DNI + 100) {
+                Thread.sleep(1);
+            }
+            // Las altas siguen durante toda la reconstrucción
+            existenceFilter.rebuild();
+            running.set(false);
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+
+        for (long dni = FIRST_DNI; dni < nextDni.get(); dni++) {
+            assertTrue(existenceFilter.mightContainDni(dni), "falso negativo para el DNI " + dni);
+            assertTrue(existenceFilter.mightContainEmail(emailOf(dni)), "falso negativo para el email " + emailOf(dni));
+        }
+        assertFalse((Boolean) existenceFilter.stats().get("rebuilding"));
+    }
+
+    private void seed() {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < SEED_ROWS; i++) {
+            batch.add(new Object[]{SEED_DNI + i, "filter-seed" + i + "@mail.com", Date.valueOf("1990-01-01")});
+            if (batch.size() == 10_000 || i == SEED_ROWS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO dummy_entitie (id, dummy, dni, email, tel, fecha_nac, version) "
+                        + "VALUES (NEXT VALUE FOR dummy_seq, 'seed', ?, ?, 1, ?, 0)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static String emailOf(long dni) {
+        return "filter" + dni + "@mail.com";
+    }
+}
@@ -0,0 +1,90 @@
+package ar.edu.utn.frc.tup.lc.iii.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que {@link SingleFlight} comparta resultado y errores de una carga en curso, no los guarde
+ * y corte la espera con 504.
+ */
+class SingleFlightTest {
+
+    @Test
+    void waitersShareLeaderResultAndErrorsAreNotKept() throws Exception {
+        SingleFlight<Long, String> flights = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("base caída");
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flights.execute(1L, key -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> flights.execute(1L, key -> {
+            calls.incrementAndGet();
+            return "no debería cargar";
+        }));
+        while (flights.shared() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertSame(failure, assertThrows(ExecutionException.class, leader::get).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, waiter::get).getCause());
+        assertEquals(1, calls.get());
+
+        // El error no quedó guardado: el siguiente pedido vuelve a cargar
+        assertEquals("ok", flights.execute(1L, key -> "ok"));
+        assertEquals(2, flights.loads());
+        assertEquals(0, flights.inFlight());
+    }
+
+    @Test
+    void waiterGivesUpAfterTimeoutWhileLoadContinues() throws Exception {
+        SingleFlight<Long, String> flights = new SingleFlight<>(Duration.ofMillis(100));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flights.execute(1L, key -> {
+            loading.countDown();
+            await(release);
+            return "lento";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> flights.execute(1L, key -> "no debería cargar"));
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, ex.getStatusCode());
+        assertEquals(1, flights.timeouts());
+
+        release.countDown();
+        assertEquals("lento", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
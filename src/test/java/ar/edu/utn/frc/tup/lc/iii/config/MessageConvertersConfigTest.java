@@ -0,0 +1,86 @@
+package ar.edu.utn.frc.tup.lc.iii.config;
+
+import ar.edu.utn.frc.tup.lc.iii.dtos.DummyDto;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que las respuestas CBOR salgan del conversor armado con el ObjectMapper de la aplicación
+ * y que JSON siga siendo la representación por defecto.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MessageConvertersConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Test
+    void cborUsesApplicationObjectMapper() throws Exception {
+        Dummy created = dummyService.createDummy(
+                new Dummy(null, "cbor", 53_000_001L, "cbor@mail.com", 1L, LocalDate.of(1990, 1, 2), null));
+
+        MvcResult pending = mockMvc.perform(get("/dummy/{id}", created.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        DummyDto dto = objectMapper.copyWith(new CBORFactory()).readValue(body, DummyDto.class);
+        assertEquals(created.getId(), dto.getId());
+        assertEquals(created.getDni(), dto.getDni());
+        assertEquals(LocalDate.of(1990, 1, 2), dto.getFecha_Nac());
+
+        List<MappingJackson2CborHttpMessageConverter> cbor = handlerAdapter.getMessageConverters().stream()
+                .filter(MappingJackson2CborHttpMessageConverter.class::isInstance)
+                .map(MappingJackson2CborHttpMessageConverter.class::cast)
+                .toList();
+        assertEquals(1, cbor.size());
+        assertEquals(objectMapper.getRegisteredModuleIds(), cbor.get(0).getObjectMapper().getRegisteredModuleIds());
+    }
+
+    @Test
+    void jsonStaysTheDefault() throws Exception {
+        Dummy created = dummyService.createDummy(
+                new Dummy(null, "json", 53_000_002L, "cbor-json@mail.com", 1L, LocalDate.of(1990, 1, 2), null));
+
+        MvcResult pending = mockMvc.perform(get("/dummy/{id}", created.getId()).accept(MediaType.ALL)).andReturn();
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getMessageConverters();
+        assertEquals(1, converters.stream().filter(MappingJackson2CborHttpMessageConverter.class::isInstance).count());
+    }
+}
@@ -0,0 +1,112 @@
+package ar.edu.utn.frc.tup.lc.iii.controlers;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que los endpoints masivos procesen cada elemento por separado: los inválidos se informan
+ * en su resultado (con su índice y status) y el resto se aplica igual.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DummyBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Test
+    void bulkCreateReportsEachRejectedItem() throws Exception {
+        String body = "["
+                + dummyJson(null, 54_000_001L, "bulk-ok@mail.com", null) + ","
+                + dummyJson(null, 540_000_010L, "bulk-long@mail.com", null) + ","
+                + dummyJson(null, null, "bulk-nodni@mail.com", null) + ","
+                + dummyJson(null, 54_000_001L, "bulk-dup@mail.com", null) + "]";
+
+        mockMvc.perform(post("/dummy/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].status").value(406))
+                .andExpect(jsonPath("$[1].message").value("El dummy tiene el DNI demasiado largo"))
+                .andExpect(jsonPath("$[2].status").value(400))
+                .andExpect(jsonPath("$[2].message").value("El dummy no tiene DNI"))
+                .andExpect(jsonPath("$[3].status").value(406));
+
+        assertTrue(dummyRepository.findByDni(54_000_001L).isPresent());
+        assertFalse(dummyRepository.findByEmail("bulk-dup@mail.com").isPresent());
+    }
+
+    @Test
+    void bulkUpdateAppliesSameValidationsAsSingleUpdate() throws Exception {
+        Dummy first = dummyService.createDummy(newDummy(54_000_011L, "bulk-upd1@mail.com"));
+        Dummy second = dummyService.createDummy(newDummy(54_000_012L, "bulk-upd2@mail.com"));
+        Dummy third = dummyService.createDummy(newDummy(54_000_013L, "bulk-upd3@mail.com"));
+
+        String body = "["
+                + dummyJson(first.getId(), 54_000_011L, "bulk-upd1@mail.com", first.getVersion()) + ","
+                + dummyJson(second.getId(), 540_000_120L, "bulk-upd2@mail.com", null) + ","
+                + dummyJson(third.getId(), 54_000_013L, "bulk-upd3@mail.com", third.getVersion() + 1) + ","
+                + dummyJson(999_999_999L, 54_000_014L, "bulk-upd4@mail.com", null) + ","
+                + dummyJson(null, 54_000_015L, "bulk-upd5@mail.com", null) + "]";
+
+        mockMvc.perform(put("/dummy/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[1].status").value(406))
+                .andExpect(jsonPath("$[2].status").value(412))
+                .andExpect(jsonPath("$[3].status").value(404))
+                .andExpect(jsonPath("$[4].status").value(400));
+
+        assertEquals("bulk", dummyRepository.findById(first.getId()).orElseThrow().getDummy());
+        assertEquals(54_000_012L, dummyRepository.findById(second.getId()).orElseThrow().getDni());
+        assertEquals("v", dummyRepository.findById(third.getId()).orElseThrow().getDummy());
+    }
+
+    @Test
+    void bulkDeleteReportsMissingIds() throws Exception {
+        Dummy created = dummyService.createDummy(newDummy(54_000_021L, "bulk-del@mail.com"));
+
+        mockMvc.perform(delete("/dummy/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + created.getId() + ",999999998,null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[2].status").value(400));
+
+        assertFalse(dummyRepository.findById(created.getId()).isPresent());
+    }
+
+    private static String dummyJson(Long id, Long dni, String email, Long version) {
+        return "{\"id\":" + id + ",\"dummy\":\"bulk\",\"dni\":" + dni + ",\"email\":\"" + email
+                + "\",\"tel\":1,\"fecha_Nac\":\"1990-01-01\",\"version\":" + version + "}";
+    }
+
+    private static Dummy newDummy(Long dni, String email) {
+        return new Dummy(null, "v", dni, email, 1L, LocalDate.of(1990, 1, 1), null);
+    }
+}
@@ -0,0 +1,163 @@
+package ar.edu.utn.frc.tup.lc.iii.controlers;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica los requests condicionales sobre un Dummy: 304 con If-None-Match vigente, 412 con un
+ * If-Match viejo o débil o sobre un Dummy borrado (sin upsert), listas de If-Match que coinciden con
+ * cualquiera de sus ETags y 409 cuando otra operación lo modifica durante la escritura.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DummyConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Test
+    void getAnswersNotModifiedForCurrentEtag() throws Exception {
+        Dummy created = dummyService.createDummy(newDummy(55_000_001L, "cond-get@mail.com"));
+        String etag = etagOf(created);
+
+        perform(get("/dummy/{id}", created.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        perform(get("/dummy/{id}", created.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        perform(get("/dummy/{id}", created.getId()).header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified());
+        perform(get("/dummy/{id}", created.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"" + created.getId() + "-99\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void putRejectsStaleOrWeakIfMatch() throws Exception {
+        Dummy created = dummyService.createDummy(newDummy(55_000_002L, "cond-put@mail.com"));
+        String etag = etagOf(created);
+        String body = dummyJson(created.getId(), "cambio", created.getDni(), created.getEmail());
+
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, "W/" + etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + created.getId() + "-" + (created.getVersion() + 1) + "\""));
+        // El ETag leído antes del cambio ya no es el vigente
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void conditionalPutOnMissingDummyDoesNotInsert() throws Exception {
+        Dummy created = dummyService.createDummy(newDummy(55_000_004L, "cond-missing@mail.com"));
+        String etag = etagOf(created);
+        dummyService.deleteDummy(created.getId());
+        String body = dummyJson(created.getId(), "revivido", 55_000_005L, "cond-missing2@mail.com");
+        String bodyWithVersion = body.replace("}", ",\"version\":" + created.getVersion() + "}");
+
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(bodyWithVersion))
+                .andExpect(status().isPreconditionFailed());
+        assertFalse(dummyRepository.existsByDni(55_000_005L));
+
+        // Sin condición se mantiene el upsert
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        assertTrue(dummyRepository.existsByDni(55_000_005L));
+    }
+
+    @Test
+    void ifMatchListMatchesAnyEntry() throws Exception {
+        Dummy created = dummyService.createDummy(newDummy(55_000_006L, "cond-list@mail.com"));
+        String etag = etagOf(created);
+        String stale = "\"" + created.getId() + "-" + (created.getVersion() + 5) + "\"";
+        String other = "\"" + (created.getId() + 1) + "-0\"";
+        String body = dummyJson(created.getId(), "lista", created.getDni(), created.getEmail());
+
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, other + ", W/" + etag + ", " + stale))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/dummy").contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, other + ", " + stale + ", " + etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + created.getId() + "-" + (created.getVersion() + 1) + "\""));
+        mockMvc.perform(patch("/dummy/{id}", created.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dummy\":\"otra\"}")
+                        .header(HttpHeaders.IF_MATCH, other + ", *"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void concurrentModificationAnswersConflict() throws Exception {
+        Dummy created = dummyService.createDummy(newDummy(55_000_003L, "cond-conflict@mail.com"));
+        doThrow(new ObjectOptimisticLockingFailureException(DummyEntitie.class, created.getId()))
+                .when(dummyService).patchDummy(eq(created.getId()), any());
+
+        mockMvc.perform(patch("/dummy/{id}", created.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dummy\":\"cambio\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    /** Ejecuta un GET asincrónico hasta su respuesta final. */
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult pending = mockMvc.perform(request).andReturn();
+        return mockMvc.perform(asyncDispatch(pending));
+    }
+
+    private static String etagOf(Dummy dummy) {
+        return "\"" + dummy.getId() + "-" + dummy.getVersion() + "\"";
+    }
+
+    private static String dummyJson(Long id, String dummy, Long dni, String email) {
+        return "{\"id\":" + id + ",\"dummy\":\"" + dummy + "\",\"dni\":" + dni + ",\"email\":\"" + email
+                + "\",\"tel\":1,\"fecha_Nac\":\"1990-01-01\"}";
+    }
+
+    private static Dummy newDummy(Long dni, String email) {
+        return new Dummy(null, "v", dni, email, 1L, LocalDate.of(1990, 1, 1), null);
+    }
+}
@@ -0,0 +1,106 @@
+package ar.edu.utn.frc.tup.lc.iii.exceptions;
+
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyEntitie;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifica que las violaciones de restricciones que informa la base se traduzcan al estado correcto:
+ * solo las de unicidad son 406; los datos que la base no acepta son 400 y lo desconocido, 500. Cada handler
+ * responde el mismo estado que {@link GlobalExceptionHandler#statusOf}.
+ */
+@SpringBootTest
+class GlobalExceptionHandlerTest {
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GlobalExceptionHandler handler;
+
+    @Test
+    void uniqueViolationsAreNotAcceptable() {
+        dummyRepository.saveAndFlush(entity(59_000_001L, "unique59a@mail.com", "unique"));
+
+        DataIntegrityViolationException dni = assertThrows(DataIntegrityViolationException.class,
+                () -> dummyRepository.saveAndFlush(entity(59_000_001L, "unique59b@mail.com", "unique")));
+        DataIntegrityViolationException email = assertThrows(DataIntegrityViolationException.class,
+                () -> dummyRepository.saveAndFlush(entity(59_000_002L, "unique59a@mail.com", "unique")));
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, GlobalExceptionHandler.statusOf(dni));
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, GlobalExceptionHandler.statusOf(email));
+    }
+
+    @Test
+    void otherViolationsAreBadRequest() {
+        DataIntegrityViolationException tooLong = assertThrows(DataIntegrityViolationException.class,
+                () -> dummyRepository.saveAndFlush(entity(59_000_003L, "long59@mail.com", "x".repeat(300))));
+        DataIntegrityViolationException notNull = assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("insert into dummy_entitie (id, dummy) values (null, 'null59')"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, GlobalExceptionHandler.statusOf(tooLong));
+        assertEquals(HttpStatus.BAD_REQUEST, GlobalExceptionHandler.statusOf(notNull));
+    }
+
+    @Test
+    void unknownViolationsAreServerErrors() {
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, GlobalExceptionHandler.statusOf(
+                new DataIntegrityViolationException("sin causa")));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, GlobalExceptionHandler.statusOf(
+                new DataIntegrityViolationException("otra", new SQLException("otra", "HY000"))));
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, GlobalExceptionHandler.statusOf(
+                new DataIntegrityViolationException("otra base", new SQLException("duplicate", "23505"))));
+    }
+
+    @Test
+    void handlersRespondWithStatusOf() {
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/dummy/1"));
+        DummyStatusException stale = new DummyStatusException(HttpStatus.PRECONDITION_FAILED, "vieja");
+        ResponseStatusException custom = new ResponseStatusException(HttpStatusCode.valueOf(499));
+        EntityNotFoundException missing = new EntityNotFoundException("no");
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("null",
+                new SQLException("NULL not allowed", "23502"));
+        ObjectOptimisticLockingFailureException conflict = new ObjectOptimisticLockingFailureException(DummyEntitie.class, 1L);
+        IllegalStateException unexpected = new IllegalStateException("x");
+        List<Map.Entry<Exception, ResponseEntity<GlobalExceptionHandler.ErrorResponse>>> responses = List.of(
+                Map.entry(stale, handler.handleDummyStatus(stale, request.getRequest())),
+                Map.entry(custom, handler.handleResponseStatus(custom, request)),
+                Map.entry(missing, handler.handleEntityNotFound(missing, request)),
+                Map.entry(notNull, handler.handleDataIntegrity(notNull, request)),
+                Map.entry(conflict, handler.handleOptimisticLocking(conflict, request)),
+                Map.entry(unexpected, handler.handleGeneric(unexpected, request)));
+
+        for (Map.Entry<Exception, ResponseEntity<GlobalExceptionHandler.ErrorResponse>> response : responses) {
+            HttpStatusCode expected = GlobalExceptionHandler.statusOf(response.getKey());
+            assertEquals(expected, response.getValue().getStatusCode(), response.getKey().getClass().getSimpleName());
+            assertEquals(expected.value(), response.getValue().getBody().getStatus());
+        }
+    }
+
+    private static DummyEntitie entity(long dni, String email, String dummy) {
+        return new DummyEntitie(null, dummy, dni, email, 1L, LocalDate.of(1990, 1, 1), null);
+    }
+}
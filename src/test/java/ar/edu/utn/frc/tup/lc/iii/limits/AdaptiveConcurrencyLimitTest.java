@@ -0,0 +1,45 @@
+package ar.edu.utn.frc.tup.lc.iii.limits;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que {@link AdaptiveConcurrencyLimit} rechace por encima del límite, lo baje con pedidos
+ * lentos y lo recupere con pedidos rápidos.
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TARGET = 100;
+
+    @Test
+    void shrinksWhenSlowAndGrowsBackWhenFast() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, TARGET);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+        assertFalse(limit.tryAcquire());
+
+        for (int i = 0; i < 4; i++) {
+            limit.release(TARGET * 10, false);
+        }
+        assertEquals(1, limit.limit());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        limit.release(TARGET / 2, false);
+        // Con el límite lleno y pedidos rápidos vuelve a subir hasta el máximo
+        for (int round = 0; round < 10; round++) {
+            while (limit.tryAcquire()) {
+                // ocupa todos los lugares disponibles
+            }
+            while (limit.inFlight() > 0) {
+                limit.release(TARGET / 2, false);
+            }
+        }
+        assertEquals(4, limit.limit());
+        assertEquals(0, limit.inFlight());
+    }
+}
@@ -0,0 +1,91 @@
+package ar.edu.utn.frc.tup.lc.iii.limits;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica {@link DummyLimitsInterceptor} de punta a punta: 429 con Retry-After al agotar la tasa,
+ * que un X-Client-Id distinto por pedido no esquive el límite salvo detrás de un proxy de confianza, y
+ * que el lugar de concurrencia de un endpoint asincrónico se libere recién al terminar el despacho async.
+ */
+@SpringBootTest(properties = {"app.limits.expensive.rate=0.001", "app.limits.expensive.burst=2",
+        "app.limits.default.max-concurrency=1", "app.limits.default.latency-target=PT10S",
+        "app.limits.trusted-proxies=10.0.0.1"})
+@AutoConfigureMockMvc
+class DummyLimitsInterceptorTest {
+
+    private static final String PROXY = "10.0.0.1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rateLimitIsKeyedOnRemoteAddressNotOnClientHeader() throws Exception {
+        completeLookup(lookup("127.0.0.1", "a"));
+        completeLookup(lookup("127.0.0.1", "b"));
+
+        mockMvc.perform(lookup("127.0.0.1", "c"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    void trustedProxyClientHeaderSelectsTheBucket() throws Exception {
+        completeLookup(lookup(PROXY, "x"));
+        completeLookup(lookup(PROXY, "x"));
+        mockMvc.perform(lookup(PROXY, "x")).andExpect(status().isTooManyRequests());
+
+        // Otro cliente detrás del mismo proxy tiene su propio bucket
+        completeLookup(lookup(PROXY, "y"));
+    }
+
+    @Test
+    void asyncRequestHoldsConcurrencyUntilAsyncDispatchCompletes() throws Exception {
+        MvcResult first = mockMvc.perform(get("/dummy/{id}", 999_999_997L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(get("/dummy/{id}", 999_999_996L))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isNotFound());
+
+        MvcResult next = mockMvc.perform(get("/dummy/{id}", 999_999_996L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(next)).andExpect(status().isNotFound());
+    }
+
+    private void completeLookup(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult pending = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(pending)).andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder lookup(String remoteAddress, String clientId) {
+        return post("/dummy/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[1]}")
+                .header("X-Client-Id", clientId)
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddress);
+                    return request;
+                });
+    }
+}
@@ -0,0 +1,65 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.config.DummyLookupPool;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyAsyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica el descarte de carga (503 con la cola llena) y el timeout (504) de {@link DummyAsyncService}.
+ */
+@SpringBootTest(properties = {"app.async.dummy.threads=1", "app.async.dummy.queue-capacity=1",
+        "app.async.dummy.timeout=PT0.2S"})
+class DummyAsyncServiceImplTest {
+
+    @Autowired
+    private DummyAsyncService dummyAsyncService;
+
+    @Autowired
+    private DummyLookupPool executor;
+
+    @Test
+    void shedsLoadWhenQueueIsFullAndTimesOutQueuedWork() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release)); // ocupa el único hilo
+        try {
+            var queued = dummyAsyncService.getDummy(1L); // ocupa el único lugar de la cola
+            var rejected = dummyAsyncService.getDummy(2L);
+
+            ResponseStatusException shed = failure(rejected);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, shed.getStatusCode());
+            assertTrue(shed.getHeaders().containsKey(HttpHeaders.RETRY_AFTER));
+
+            assertEquals(HttpStatus.GATEWAY_TIMEOUT, failure(queued).getStatusCode());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static ResponseStatusException failure(CompletableFuture<?> future) {
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return assertInstanceOf(ResponseStatusException.class, ex.getCause());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChange;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChangePage;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyChangeType;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que el feed de cambios informe en orden solo los cambios confirmados y que el long-poll
+ * se despierte con una escritura.
+ */
+@SpringBootTest
+class DummyChangeFeedTest {
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Test
+    void feedListsCommittedChangesInOrder() {
+        long cursor = latestCursor();
+
+        Dummy created = dummyService.createDummy(dummy(44_000_001L));
+        // El alta duplicada se revierte: no debe figurar en el feed
+        assertThrows(ResponseStatusException.class, () -> dummyService.createDummy(dummy(44_000_001L)));
+        Dummy patch = new Dummy();
+        patch.setTel(99L);
+        dummyService.patchDummy(created.getId(), patch);
+        dummyService.deleteDummy(created.getId());
+
+        List<DummyChange> changes = dummyService.getChanges(cursor, 1000).getChanges();
+        assertEquals(3, changes.size());
+        assertEquals(DummyChangeType.CREATE, changes.get(0).getOperation());
+        assertEquals(DummyChangeType.UPDATE, changes.get(1).getOperation());
+        assertEquals(99L, changes.get(1).getDummy().getTel());
+        assertEquals(DummyChangeType.DELETE, changes.get(2).getOperation());
+        for (int i = 0; i < changes.size(); i++) {
+            assertEquals(created.getId(), changes.get(i).getDummy().getId());
+            assertTrue(i == 0 || changes.get(i).getSeq() > changes.get(i - 1).getSeq());
+        }
+    }
+
+    @Test
+    void longPollWakesUpOnCommit() throws Exception {
+        long cursor = latestCursor();
+
+        CompletableFuture<Void> waiting = dummyService.awaitChanges(cursor, Duration.ofSeconds(30));
+        assertFalse(waiting.isDone());
+        dummyService.createDummy(dummy(44_000_002L));
+
+        waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(DummyChangeType.CREATE, dummyService.getChanges(cursor, 1000).getChanges().get(0).getOperation());
+    }
+
+    /** Avanza el cursor hasta el final del feed (otros tests de la misma base también escriben). */
+    private long latestCursor() {
+        long cursor = 0;
+        DummyChangePage page;
+        do {
+            page = dummyService.getChanges(cursor, 1000);
+            cursor = page.getNextCursor();
+        } while (!page.getChanges().isEmpty());
+        return cursor;
+    }
+
+    private static Dummy dummy(long dni) {
+        return new Dummy(null, "change", dni, "change" + dni + "@mail.com", 1L, LocalDate.of(1990, 1, 1), null);
+    }
+}
@@ -0,0 +1,162 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.cache.DummyExistenceFilter;
+import ar.edu.utn.frc.tup.lc.iii.entities.DummyImportCheckpoint;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyExportFormat;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyImportReport;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyImportCheckpointRepository;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.reset;
+
+/**
+ * Verifica las validaciones de la importación masiva, que una importación cortada se reanude
+ * desde el último checkpoint sin duplicar registros ni contarlos como rechazados, y que una
+ * reconstrucción del filtro de existencia durante un lote sin confirmar no pierda sus DNI y emails.
+ */
+@SpringBootTest(properties = "app.import.batch-size=2")
+class DummyImportServiceImplTest {
+
+    @Autowired
+    private DummyImportService dummyImportService;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Autowired
+    private DummyExistenceFilter existenceFilter;
+
+    @SpyBean
+    private DummyImportCheckpointRepository checkpointRepository;
+
+    @Test
+    void rejectsInvalidAndDuplicateRowsWithRecordNumbers() throws IOException {
+        String csv = """
+                dummy,dni,email,tel,fecha_Nac
+                a,42000001,import-a@mail.com,1,1990-01-01
+                b,420000010,import-b@mail.com,1,1990-01-01
+                c,42000001,import-c@mail.com,1,1990-01-01
+                d,42000004,import-d@mail.com,1,1990-01-01
+                """;
+
+        DummyImportReport report = dummyImportService.importDummies("csv-rules", DummyExportFormat.CSV, stream(csv));
+
+        assertEquals(4, report.getProcessed());
+        assertEquals(2, report.getAccepted());
+        assertEquals(2, report.getRejected());
+        assertEquals(2, report.getRejectedRows().get(0).getIndex());
+        assertEquals(HttpStatus.NOT_ACCEPTABLE.value(), report.getRejectedRows().get(0).getStatus());
+        assertEquals(3, report.getRejectedRows().get(1).getIndex());
+        assertTrue(dummyRepository.findByDni(42_000_004L).isPresent());
+    }
+
+    @Test
+    void failedImportResumesFromLastCheckpoint() throws IOException {
+        String valid = ndjson(43_000_001L, 43_000_002L, 43_000_003L, 43_000_004L, 43_000_005L);
+        String broken = ndjson(43_000_001L, 43_000_002L, 43_000_003L) + "{not json\n";
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> dummyImportService.importDummies("resume", DummyExportFormat.NDJSON, stream(broken)));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+
+        DummyImportReport report = dummyImportService.importDummies("resume", DummyExportFormat.NDJSON, stream(valid));
+
+        // El primer lote (2 registros) quedó confirmado; el registro 3 se reprocesa junto con el resto
+        assertEquals(2, report.getResumedFrom());
+        assertEquals(3, report.getProcessed());
+        assertEquals(5, report.getAccepted());
+        assertEquals(0, report.getRejected());
+        assertTrue(report.isCompleted());
+        for (long dni = 43_000_001L; dni <= 43_000_005L; dni++) {
+            assertTrue(dummyRepository.findByDni(dni).isPresent());
+        }
+    }
+
+    @Test
+    void batchIsRolledBackWhenItsCheckpointFails() throws IOException {
+        String file = ndjson(44_000_001L, 44_000_002L, 44_000_003L, 44_000_004L);
+        // Falla el checkpoint del segundo lote, como si la importación se cortara justo después de insertarlo
+        doThrow(new DataAccessResourceFailureException("corte")).when(checkpointRepository)
+                .save(argThat((DummyImportCheckpoint checkpoint) -> checkpoint.getRecords() == 4));
+        try {
+            assertThrows(DataAccessResourceFailureException.class,
+                    () -> dummyImportService.importDummies("atomic", DummyExportFormat.NDJSON, stream(file)));
+        } finally {
+            reset(checkpointRepository);
+        }
+        assertTrue(dummyRepository.findByDni(44_000_002L).isPresent());
+        assertFalse(dummyRepository.findByDni(44_000_003L).isPresent());
+
+        DummyImportReport report = dummyImportService.importDummies("atomic", DummyExportFormat.NDJSON, stream(file));
+
+        assertEquals(2, report.getResumedFrom());
+        assertEquals(4, report.getAccepted());
+        assertEquals(0, report.getRejected());
+        assertTrue(dummyRepository.findByDni(44_000_004L).isPresent());
+    }
+
+    @Test
+    void rebuildDuringUncommittedBatchKeepsItsKeys() throws Exception {
+        existenceFilter.rebuild();
+        String file = ndjson(46_000_001L, 46_000_002L);
+        CompletableFuture<Void> rebuild = new CompletableFuture<>();
+        // Con el lote insertado pero sin confirmar, se reconstruye el filtro desde otro hilo
+        doAnswer(invocation -> {
+            CompletableFuture.runAsync(existenceFilter::rebuild).whenComplete((ok, ex) -> rebuild.complete(null));
+            try {
+                rebuild.get(2, TimeUnit.SECONDS);
+            } catch (TimeoutException expected) {
+                // la reconstrucción espera a que el lote termine
+            }
+            // El spy de un repositorio (interfaz) delega en el bean real con su respuesta por defecto
+            return mockingDetails(checkpointRepository).getMockCreationSettings().getDefaultAnswer().answer(invocation);
+        }).when(checkpointRepository).save(argThat((DummyImportCheckpoint checkpoint) -> checkpoint.getRecords() == 2));
+        try {
+            dummyImportService.importDummies("filter", DummyExportFormat.NDJSON, stream(file));
+        } finally {
+            reset(checkpointRepository);
+        }
+        rebuild.get(30, TimeUnit.SECONDS);
+
+        assertTrue(existenceFilter.mightContainDni(46_000_001L));
+        assertTrue(existenceFilter.mightContainDni(46_000_002L));
+        assertTrue(existenceFilter.mightContainEmail("import46000002@mail.com"));
+    }
+
+    private static String ndjson(long... dnis) {
+        StringBuilder sb = new StringBuilder();
+        for (long dni : dnis) {
+            sb.append("{\"dummy\":\"import\",\"dni\":").append(dni).append(",\"email\":\"import").append(dni)
+                    .append("@mail.com\",\"tel\":1,\"fecha_Nac\":\"1990-01-01\"}\n");
+        }
+        return sb.toString();
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
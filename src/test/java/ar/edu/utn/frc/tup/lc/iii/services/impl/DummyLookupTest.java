@@ -0,0 +1,54 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookup;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyLookupResult;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Verifica que la búsqueda masiva devuelva un resultado por valor buscado (null si no existe), sin
+ * repetidos y en el orden de la entrada, también cuando la entrada se parte en varios lotes.
+ */
+@SpringBootTest(properties = "app.bulk.chunk-size=2")
+class DummyLookupTest {
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Test
+    void resolvesEveryKeyAndReportsMisses() {
+        Dummy a = dummyService.createDummy(dummy(45_000_001L));
+        Dummy b = dummyService.createDummy(dummy(45_000_002L));
+        Dummy c = dummyService.createDummy(dummy(45_000_003L));
+        long missingId = c.getId() + 1_000_000L;
+
+        DummyLookupResult result = dummyService.lookupDummies(new DummyLookup(
+                Arrays.asList(c.getId(), missingId, a.getId(), null, c.getId(), b.getId()),
+                List.of(45_000_002L, 45_999_999L),
+                List.of("lookup45000003@mail.com", "nobody@mail.com")));
+
+        assertEquals(List.of(c.getId(), missingId, a.getId(), b.getId()), List.copyOf(result.getById().keySet()));
+        assertEquals(a.getDni(), result.getById().get(a.getId()).getDni());
+        assertEquals(b.getDni(), result.getById().get(b.getId()).getDni());
+        assertNull(result.getById().get(missingId));
+
+        assertEquals(b.getId(), result.getByDni().get(45_000_002L).getId());
+        assertNull(result.getByDni().get(45_999_999L));
+        assertEquals(c.getId(), result.getByEmail().get("lookup45000003@mail.com").getId());
+        assertNull(result.getByEmail().get("nobody@mail.com"));
+    }
+
+    private static Dummy dummy(long dni) {
+        return new Dummy(null, "lookup", dni, "lookup" + dni + "@mail.com", 1L, LocalDate.of(1990, 1, 1), null);
+    }
+}
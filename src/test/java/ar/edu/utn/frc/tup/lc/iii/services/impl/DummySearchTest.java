@@ -0,0 +1,105 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.models.DummyFilter;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que las búsquedas por el campo 'dummy' y por filtro devuelvan los Dummys correctos
+ * proyectados al modelo, sin cargar ninguna entidad, y que el plan de H2 para la búsqueda por filtro use
+ * el índice del criterio informado en vez de recorrer la tabla.
+ */
+@SpringBootTest(properties = {"app.metrics.hibernate=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "ar.edu.utn.frc.tup.lc.iii.services.impl.DummySearchTest$RecordingInspector"})
+class DummySearchTest {
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void searchesProjectWithoutLoadingEntities() {
+        Dummy a = dummyService.createDummy(dummy(58_000_001L, LocalDate.of(1980, 1, 1)));
+        Dummy b = dummyService.createDummy(dummy(58_000_002L, LocalDate.of(1990, 1, 1)));
+        Dummy c = dummyService.createDummy(dummy(58_000_003L, LocalDate.of(2000, 1, 1)));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long loadsBefore = statistics.getEntityLoadCount();
+
+        Dummy latest = dummyService.getByAllDummy(new Dummy(null, "search58", null, null, null, null, null));
+        List<Dummy> all = dummyService.getDummyFiltered(new Dummy(null, "search58", null, null, null, null, null));
+        Page<Dummy> range = dummyService.searchDummies(
+                new DummyFilter("search58", null, null, null, LocalDate.of(1985, 1, 1), null), 0, 1);
+        Page<Dummy> byDni = dummyService.searchDummies(
+                new DummyFilter(null, 58_000_001L, null, null, null, null), 0, 10);
+
+        assertEquals(0, statistics.getEntityLoadCount() - loadsBefore, "entidades cargadas por las búsquedas");
+        assertEquals(c, latest);
+        assertEquals(List.of(a, b, c), all);
+        assertEquals(2, range.getTotalElements());
+        assertEquals(List.of(b), range.getContent());
+        assertEquals(List.of(a), byDni.getContent());
+    }
+
+    @Test
+    void filterSearchUsesTheCriterionIndex() {
+        assertUsesIndex(new DummyFilter("search58", null, null, null, null, null), "IX_DUMMY_DUMMY");
+        assertUsesIndex(new DummyFilter(null, 58_000_001L, null, null, null, null), "UK_DUMMY_DNI");
+        assertUsesIndex(new DummyFilter(null, null, "search58000001@mail.com", null, null, null), "UK_DUMMY_EMAIL");
+        assertUsesIndex(new DummyFilter(null, null, null, 1L, null, null), "IX_DUMMY_TEL");
+        assertUsesIndex(new DummyFilter(null, null, null, null, LocalDate.of(1985, 1, 1), LocalDate.of(1995, 1, 1)),
+                "IX_DUMMY_FECHA_NAC");
+    }
+
+    /** Ejecuta la búsqueda, toma el SELECT que generó Hibernate y verifica su plan con EXPLAIN. */
+    private void assertUsesIndex(DummyFilter filter, String index) {
+        RecordingInspector.STATEMENTS.clear();
+        dummyService.searchDummies(filter, 0, 10);
+        String select = RecordingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.contains("dummy_entitie") && !sql.contains("count("))
+                .findFirst()
+                .orElseThrow();
+        String plan = jdbcTemplate.query(con -> con.prepareStatement("EXPLAIN " + select), rs -> {
+            rs.next();
+            return rs.getString(1);
+        });
+        assertTrue(plan.toUpperCase().contains(index) && !plan.contains("tableScan"), filter + " -> " + plan);
+    }
+
+    /** Guarda el SQL de cada sentencia que prepara Hibernate. */
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    private static Dummy dummy(long dni, LocalDate fechaNac) {
+        return new Dummy(null, "search58", dni, "search" + dni + "@mail.com", 1L, fechaNac, null);
+    }
+}
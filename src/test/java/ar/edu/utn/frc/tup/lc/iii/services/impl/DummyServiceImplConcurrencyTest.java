@@ -0,0 +1,89 @@
+package ar.edu.utn.frc.tup.lc.iii.services.impl;
+
+import ar.edu.utn.frc.tup.lc.iii.models.Dummy;
+import ar.edu.utn.frc.tup.lc.iii.repositories.DummyRepository;
+import ar.edu.utn.frc.tup.lc.iii.services.DummyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que la unicidad de DNI y email se respete con muchos escritores concurrentes.
+ */
+@SpringBootTest
+class DummyServiceImplConcurrencyTest {
+
+    private static final int WRITERS = 128;
+
+    @Autowired
+    private DummyService dummyService;
+
+    @Autowired
+    private DummyRepository dummyRepository;
+
+    @Test
+    void sameDniConcurrentCreatesInsertOnlyOne() throws Exception {
+        long dni = 40_000_001L;
+        int created = runConcurrently(i -> new Dummy(null, "dni-race", dni, "dni-race" + i + "@mail.com", 1L, LocalDate.of(1990, 1, 1), null));
+
+        assertEquals(1, created);
+        assertTrue(dummyRepository.findByDni(dni).isPresent());
+    }
+
+    @Test
+    void sameEmailConcurrentCreatesInsertOnlyOne() throws Exception {
+        String email = "mail-race@mail.com";
+        int created = runConcurrently(i -> new Dummy(null, "mail-race", 41_000_000L + i, email, 1L, LocalDate.of(1990, 1, 1), null));
+
+        assertEquals(1, created);
+        assertTrue(dummyRepository.findByEmail(email).isPresent());
+    }
+
+    /**
+     * Lanza WRITERS altas en paralelo y devuelve cuántas se crearon. Las rechazadas deben ser 406.
+     */
+    private int runConcurrently(IntFunction<Dummy> factory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                Dummy dummy = factory.apply(i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        dummyService.createDummy(dummy);
+                        return true;
+                    } catch (ResponseStatusException ex) {
+                        assertEquals(HttpStatus.NOT_ACCEPTABLE, ex.getStatusCode());
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int created = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    created++;
+                }
+            }
+            return created;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}